@@ -0,0 +1,82 @@
+package com.validate.validator.benchmark;
+
+import com.validate.model.Customer;
+import com.validate.model.Order;
+import com.validate.model.OrderItem;
+import com.validate.model.ShippingAddress;
+import com.validate.validator.ObjectValidator;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("unchecked")
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    // The test resources shadow validation-rules.yml on the benchmark classpath, so read the main copy
+    // from the directory the validator classes were loaded from
+    static Path mainRulesFile() {
+        try {
+            Path classes = Paths.get(ObjectValidator.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            return classes.resolve("validation-rules.yml");
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Map<String, Object> loadMainRules() {
+        try (InputStream input = Files.newInputStream(mainRulesFile())) {
+            return new Yaml().load(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<Map<String, Object>> createOrderValidations() {
+        Map<String, Object> requests = (Map<String, Object>) loadMainRules().get("requests");
+        Map<String, Object> createOrder = (Map<String, Object>) requests.get("createOrder");
+        return (List<Map<String, Object>>) createOrder.get("validations");
+    }
+
+    // An order that passes createOrder; when invalid, only the last item is broken so the whole graph is walked
+    static Order createOrder(int itemCount, boolean valid) {
+        Order order = new Order();
+        order.setOrderId("ORD-123456");
+
+        Customer customer = new Customer();
+        customer.setName("John Doe");
+        customer.setEmail("john.doe@example.com");
+        order.setCustomer(customer);
+
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setProductId("PROD-" + i);
+            item.setQuantity(1 + i % 5);
+            items.add(item);
+        }
+        if (!valid) {
+            items.get(itemCount - 1).setQuantity(0);
+        }
+        order.setItems(items);
+
+        ShippingAddress address = new ShippingAddress();
+        address.setStreet("123 Main St");
+        address.setCity("Anytown");
+        address.setZipCode("12345-6789");
+        address.setNotes("Leave at front door");
+        order.setShippingAddress(address);
+        return order;
+    }
+}
@@ -0,0 +1,53 @@
+package com.validate.validator.benchmark;
+
+import com.validate.validator.ObjectValidator;
+import com.validate.validator.config.ValidationConfig;
+import com.validate.validator.plan.ValidationPlan;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Startup costs: loading the configured rule files, parsing the YAML, and compiling an endpoint's plan
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigLoadBenchmark {
+
+    private ObjectValidator validator;
+    private List<Map<String, Object>> validations;
+
+    @Setup
+    public void setUp() {
+        validator = new ObjectValidator();
+        validations = BenchmarkFixtures.createOrderValidations();
+    }
+
+    @Benchmark
+    public ValidationConfig loadConfig() {
+        return new ValidationConfig();
+    }
+
+    @Benchmark
+    public Map<String, Object> parseRulesYaml() {
+        return BenchmarkFixtures.loadMainRules();
+    }
+
+    @Benchmark
+    public ValidationPlan compilePlan() {
+        return validator.compile(validations);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 10)
+    @Fork(5)
+    public ValidationConfig coldLoadConfig() {
+        return new ValidationConfig();
+    }
+}
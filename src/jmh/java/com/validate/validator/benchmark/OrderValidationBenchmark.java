@@ -0,0 +1,70 @@
+package com.validate.validator.benchmark;
+
+import com.validate.model.Order;
+import com.validate.validator.ObjectValidator;
+import com.validate.validator.ValidationResult;
+import com.validate.validator.plan.ValidationPlan;
+import jakarta.validation.ValidationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// createOrder from validation-rules.yml against orders of growing size
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderValidationBenchmark {
+
+    @Param({"1", "100", "10000", "100000"})
+    public int listSize;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    @Param({"false", "true"})
+    public boolean codeGeneration;
+
+    private ObjectValidator validator;
+    private List<Map<String, Object>> validations;
+    private ValidationPlan plan;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        validator = new ObjectValidator();
+        validator.setCodeGeneration(codeGeneration);
+        validations = BenchmarkFixtures.createOrderValidations();
+        plan = validator.compile(validations);
+        order = BenchmarkFixtures.createOrder(listSize, valid);
+    }
+
+    @Benchmark
+    public Object failFast() {
+        try {
+            validator.validateObject(order, plan);
+            return null;
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object failFastFromMaps() {
+        try {
+            validator.validateObject(order, validations);
+            return null;
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult collectAll() {
+        return validator.validate(order, plan);
+    }
+}
@@ -0,0 +1,62 @@
+package com.validate.validator.benchmark;
+
+import com.validate.validator.rules.FastPatternMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// Compares the three ways a pattern rule can be evaluated against the patterns in validation-rules.yml
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatternMatchBenchmark {
+
+    @Param({"orderId", "zipCode", "email"})
+    public String rule;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private String regex;
+    private String input;
+    private Pattern pattern;
+    private FastPatternMatcher fastMatcher;
+
+    @Setup
+    public void setUp() {
+        switch (rule) {
+            case "orderId":
+                regex = "^ORD-[0-9]{6}$";
+                input = valid ? "ORD-123456" : "ORD-12345X";
+                break;
+            case "zipCode":
+                regex = "^\\d{5}(-\\d{4})?$";
+                input = valid ? "12345-6789" : "12345-678";
+                break;
+            default:
+                regex = "^[A-Za-z0-9+_.-]+@(.+)$";
+                input = valid ? "john.doe@example.com" : "john.doe.example.com";
+        }
+        pattern = Pattern.compile(regex);
+        fastMatcher = FastPatternMatcher.compile(regex);
+    }
+
+    @Benchmark
+    public boolean stringMatches() {
+        return input.matches(regex);
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return pattern.matcher(input).matches();
+    }
+
+    @Benchmark
+    public int fastMatcher() {
+        return fastMatcher.match(input);
+    }
+}
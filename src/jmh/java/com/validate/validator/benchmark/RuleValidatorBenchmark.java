@@ -0,0 +1,76 @@
+package com.validate.validator.benchmark;
+
+import com.validate.validator.ValidatorRegistry;
+import com.validate.validator.rules.FieldValidator;
+import com.validate.validator.rules.RuleCheck;
+import jakarta.validation.ValidationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Each built-in rule in isolation, through its compiled RuleCheck and through the map-based validate()
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleValidatorBenchmark {
+
+    @Param({"required", "minLength", "maxLength", "min", "pattern"})
+    public String type;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private FieldValidator validator;
+    private Map<String, Object> rule;
+    private RuleCheck check;
+    private Object value;
+
+    @Setup
+    public void setUp() {
+        validator = ValidatorRegistry.shared().getValidator(type);
+        rule = new HashMap<>();
+        rule.put("type", type);
+        switch (type) {
+            case "required":
+                value = valid ? "present" : null;
+                break;
+            case "minLength":
+                rule.put("value", 2);
+                value = valid ? "John Doe" : "J";
+                break;
+            case "maxLength":
+                rule.put("value", 50);
+                value = valid ? "123 Main St" : "x".repeat(51);
+                break;
+            case "min":
+                rule.put("value", 1);
+                value = valid ? 3 : 0;
+                break;
+            default:
+                rule.put("value", "^[A-Za-z0-9+_.-]+@(.+)$");
+                rule.put("message", "must be a valid email address");
+                value = valid ? "john.doe@example.com" : "john.doe.example.com";
+        }
+        check = validator.compile(rule);
+    }
+
+    @Benchmark
+    public int compiledCheck() {
+        return check.check(value);
+    }
+
+    @Benchmark
+    public Object mapBasedValidate() {
+        try {
+            validator.validate("field", value, rule);
+            return null;
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+}
@@ -4,14 +4,22 @@ import com.validate.model.Customer;
 import com.validate.model.Order;
 import com.validate.model.OrderItem;
 import com.validate.validator.ObjectValidator;
+import com.validate.validator.config.RuleSnapshotCompiler;
 import com.validate.validator.config.ValidationConfig;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && "snapshot".equals(args[0])) {
+            // Build-time step: java com.validate.Main snapshot <output> [ruleName ...]
+            RuleSnapshotCompiler.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
         // Create test order
         Order order = new Order();
         order.setOrderId("ORD-123456");
@@ -1,7 +1,10 @@
 package com.validate.model;
 
+import com.validate.validator.processor.GenerateValidator;
+
 import java.util.List;
 
+@GenerateValidator(rules = "validation-rules", requests = "createOrder")
 public class Order {
     private String orderId;
     private Customer customer;
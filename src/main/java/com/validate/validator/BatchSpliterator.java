@@ -0,0 +1,97 @@
+package com.validate.validator;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Maps an iterator in fixed-size batches on an executor, with at most a fixed number of batches in
+// flight, and hands the results out in encounter order. The iterator is only read by the consumer, when
+// a batch finishes, so a slow consumer holds back reading: at most (window + 1) * BATCH_SIZE objects are
+// read ahead of it. A parallel stream over an iterator would instead keep splitting off batches until
+// the iterator is drained. The spliterator itself does not split; the parallelism is in the batches.
+final class BatchSpliterator<T, R> implements Spliterator<R> {
+    static final int BATCH_SIZE = 1024;
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends R> mapper;
+    private final Executor executor;
+    private final int window;
+    private final ArrayDeque<CompletableFuture<Object[]>> inFlight = new ArrayDeque<>();
+    private Object[] current;
+    private int next;
+
+    BatchSpliterator(Iterator<? extends T> iterator, Function<? super T, ? extends R> mapper, Executor executor,
+                     int window) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        this.executor = executor;
+        this.window = window;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super R> action) {
+        while (current == null || next == current.length) {
+            fill();
+            if (inFlight.isEmpty()) {
+                return false;
+            }
+            current = join(inFlight.poll());
+            next = 0;
+        }
+        action.accept((R) current[next++]);
+        return true;
+    }
+
+    private void fill() {
+        while (inFlight.size() < window && iterator.hasNext()) {
+            Object[] batch = new Object[BATCH_SIZE];
+            int size = 0;
+            while (size < BATCH_SIZE && iterator.hasNext()) {
+                batch[size++] = iterator.next();
+            }
+            int count = size;
+            inFlight.add(CompletableFuture.supplyAsync(() -> map(batch, count), executor));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] map(Object[] batch, int size) {
+        Object[] results = new Object[size];
+        for (int i = 0; i < size; i++) {
+            results[i] = mapper.apply((T) batch[i]);
+        }
+        return results;
+    }
+
+    private static Object[] join(CompletableFuture<Object[]> batch) {
+        try {
+            return batch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+}
@@ -0,0 +1,122 @@
+package com.validate.validator;
+
+import com.validate.validator.plan.ValidationPlan;
+import jakarta.validation.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Concrete field paths as they appear in violations, e.g. items[5].quantity
+final class FieldPath {
+
+    private FieldPath() {
+    }
+
+    // Field names as Strings and list indexes as Integers; the empty path is the root
+    static List<Object> parse(String path) {
+        List<Object> segments = new ArrayList<>();
+        int i = 0;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new ValidationException("Invalid field path: " + path);
+                }
+                try {
+                    segments.add(Integer.parseInt(path.substring(i + 1, end)));
+                } catch (NumberFormatException e) {
+                    throw new ValidationException("Invalid field path: " + path, e);
+                }
+                i = end + 1;
+            } else {
+                if (c == '.') {
+                    if (segments.isEmpty()) {
+                        throw new ValidationException("Invalid field path: " + path);
+                    }
+                    i++;
+                }
+                int end = i;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == i) {
+                    throw new ValidationException("Invalid field path: " + path);
+                }
+                segments.add(path.substring(i, end));
+                i = end;
+            }
+        }
+        return segments;
+    }
+
+    // True when path is the changed path itself or lies below it
+    static boolean covers(String changed, String path) {
+        if (changed.isEmpty()) {
+            return true;
+        }
+        if (!path.startsWith(changed)) {
+            return false;
+        }
+        if (path.length() == changed.length()) {
+            return true;
+        }
+        char next = path.charAt(changed.length());
+        return next == '.' || next == '[';
+    }
+
+    // The order a full traversal reports violations in: fields in plan order, list items in index order,
+    // a field's own violations before those of its children
+    static Comparator<Violation> traversalOrder(ValidationPlan plan) {
+        return (a, b) -> compare(plan, parse(a.getPath()), parse(b.getPath()));
+    }
+
+    private static int compare(ValidationPlan plan, List<Object> a, List<Object> b) {
+        ValidationPlan current = plan;
+        for (int i = 0; i < Math.min(a.size(), b.size()); i++) {
+            Object left = a.get(i);
+            Object right = b.get(i);
+            if (left instanceof Integer && right instanceof Integer) {
+                int order = Integer.compare((Integer) left, (Integer) right);
+                if (order != 0) {
+                    return order;
+                }
+                continue;
+            }
+            if (!(left instanceof String) || !(right instanceof String)) {
+                return left instanceof Integer ? -1 : 1;
+            }
+            int order = Integer.compare(position(current, (String) left), position(current, (String) right));
+            if (order != 0) {
+                return order;
+            }
+            if (!left.equals(right)) {
+                return ((String) left).compareTo((String) right);
+            }
+            int index = current == null ? -1 : current.indexOf((String) left);
+            current = index < 0 ? null : current.getFields().get(index).getNested();
+        }
+        return Integer.compare(a.size(), b.size());
+    }
+
+    private static int position(ValidationPlan plan, String name) {
+        int index = plan == null ? -1 : plan.indexOf(name);
+        return index < 0 ? Integer.MAX_VALUE : index;
+    }
+
+    static String format(List<Object> segments) {
+        StringBuilder path = new StringBuilder();
+        for (Object segment : segments) {
+            if (segment instanceof Integer) {
+                path.append('[').append(segment).append(']');
+            } else {
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(segment);
+            }
+        }
+        return path.toString();
+    }
+}
@@ -0,0 +1,18 @@
+package com.validate.validator;
+
+import com.validate.validator.plan.FieldPlan;
+import com.validate.validator.plan.ValidationPlan;
+
+// Validates one model class against one plan with direct getter calls and inlined rule checks. Nested
+// objects and lists are handed back through Nested, so paths, parallel lists and the lookup of the
+// nested class's own validator stay with ObjectValidator. Violations must be reported exactly as the
+// interpreter would: same order, same rule types, same RuleCheck messages.
+public interface GeneratedValidator {
+
+    void validate(Object target, ValidationPlan plan, ValidationContext ctx, Nested nested);
+
+    interface Nested {
+        // Validates an OBJECT or LIST field's value, with the field pushed onto the path
+        void validate(Object value, FieldPlan field, ValidationContext ctx);
+    }
+}
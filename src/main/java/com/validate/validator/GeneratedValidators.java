@@ -0,0 +1,110 @@
+package com.validate.validator;
+
+import com.validate.validator.plan.CompiledRule;
+import com.validate.validator.plan.FieldPlan;
+import com.validate.validator.plan.ValidationPlan;
+import com.validate.validator.rules.MaxLengthValidator;
+import com.validate.validator.rules.MinLengthValidator;
+import com.validate.validator.rules.RequiredValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+// Finds the generated validator for a model class and plan: one precompiled by the annotation
+// processor, or one generated at run time by ValidatorGenerator. The outcome is cached on the plan per
+// class, so the search happens once per pair.
+final class GeneratedValidators {
+    private static final Logger logger = LoggerFactory.getLogger(GeneratedValidators.class);
+
+    private GeneratedValidators() {
+    }
+
+    static GeneratedValidator find(Class<?> type, ValidationPlan plan, boolean precompiled, boolean generate) {
+        Entry entry = (Entry) plan.getSpecialization(type, t -> new Entry(Precompiled.find(t, plan)));
+        if (precompiled && entry.precompiled != null) {
+            return entry.precompiled;
+        }
+        return generate ? entry.generated(type, plan) : null;
+    }
+
+    // Generated code inlines the built-in rules by type, so a plan that maps one of those types to a
+    // custom validator must stay on the interpreter
+    static boolean usesBuiltInRules(ValidationPlan plan) {
+        for (FieldPlan field : plan.getFields()) {
+            for (CompiledRule rule : field.getRules()) {
+                Class<?> expected = builtIn(rule.getType());
+                if (expected != null && rule.getValidator().getClass() != expected) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> builtIn(String ruleType) {
+        switch (ruleType) {
+            case "required":
+                return RequiredValidator.class;
+            case "minLength":
+                return MinLengthValidator.class;
+            case "maxLength":
+                return MaxLengthValidator.class;
+            default:
+                return null;
+        }
+    }
+
+    private static final class Entry {
+        final GeneratedValidator precompiled;
+        private volatile GeneratedValidator generated;
+        private volatile boolean generationTried;
+
+        Entry(GeneratedValidator precompiled) {
+            this.precompiled = precompiled;
+        }
+
+        GeneratedValidator generated(Class<?> type, ValidationPlan plan) {
+            if (!generationTried) {
+                synchronized (this) {
+                    if (!generationTried) {
+                        try {
+                            generated = ValidatorGenerator.generate(type, plan);
+                        } catch (LinkageError e) {
+                            logger.warn("Code generation is unavailable, add org.ow2.asm:asm to the classpath", e);
+                        }
+                        generationTried = true;
+                    }
+                }
+            }
+            return generated;
+        }
+    }
+
+    // Validators registered by the annotation processor, loaded once
+    private static final class Precompiled {
+        private static final Map<Class<?>, Map<Long, PrecompiledValidator>> VALIDATORS = load();
+
+        static GeneratedValidator find(Class<?> type, ValidationPlan plan) {
+            Map<Long, PrecompiledValidator> byPlan = VALIDATORS.get(type);
+            PrecompiledValidator validator = byPlan == null ? null : byPlan.get(plan.getFingerprint());
+            return validator != null && usesBuiltInRules(plan) ? validator : null;
+        }
+
+        private static Map<Class<?>, Map<Long, PrecompiledValidator>> load() {
+            Map<Class<?>, Map<Long, PrecompiledValidator>> validators = new HashMap<>();
+            try {
+                for (PrecompiledValidator validator : ServiceLoader.load(PrecompiledValidator.class)) {
+                    validators.computeIfAbsent(validator.getTargetType(), t -> new HashMap<>())
+                        .put(validator.getPlanFingerprint(), validator);
+                }
+            } catch (ServiceConfigurationError e) {
+                logger.warn("Ignoring precompiled validators that failed to load", e);
+            }
+            return validators;
+        }
+    }
+}
@@ -1,116 +1,739 @@
 package com.validate.validator;
 
+import com.validate.validator.access.FieldAccessor;
+import com.validate.validator.metrics.ValidationMetrics;
+import com.validate.validator.plan.CompiledRule;
+import com.validate.validator.plan.FieldPlan;
+import com.validate.validator.plan.PlanCache;
+import com.validate.validator.plan.PlanCompiler;
+import com.validate.validator.plan.RuleOrder;
+import com.validate.validator.plan.ValidationPlan;
+import com.validate.validator.rules.RuleCheck;
 import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-@SuppressWarnings("unchecked")
+// Thread-safe once configured: plans, accessors and the built-in rules are immutable, and per-call state
+// lives in a ValidationContext. Register validators and set the parallel options before sharing an instance.
 public class ObjectValidator {
     private static final Logger logger = LoggerFactory.getLogger(ObjectValidator.class);
+    private static final ThreadLocal<ValidationContext> CONTEXTS = ThreadLocal.withInitial(ValidationContext::new);
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int BATCHES_PER_THREAD = 2;
+    // How validateRules reads a value
+    private static final int OBJECT_VALUE = 0;
+    private static final int INT_VALUE = 1;
+    private static final int LONG_VALUE = 2;
+    private static final int DOUBLE_VALUE = 3;
     private final ValidatorRegistry validatorRegistry;
+    private final PlanCompiler planCompiler;
+    private final PlanCache planCache = new PlanCache();
+    private int parallelThreshold;
+    private Executor parallelExecutor = ForkJoinPool.commonPool();
+    private boolean codeGeneration;
+    private boolean precompiled = true;
+    private ValidationMetrics metrics;
+    private boolean adaptiveRuleOrder;
+    private int maxDepth;
+    private long maxNodes;
+    private boolean cycleDetection;
+    private Duration timeBudget;
+    private ResultCache resultCache;
+    private final GeneratedValidator.Nested nestedValidator = this::validateStructuralField;
 
+    // Starts with an empty child of the shared registry, so custom validators stay local to this instance
     public ObjectValidator() {
-        this.validatorRegistry = new ValidatorRegistry();
+        this(ValidatorRegistry.shared().child());
+    }
+
+    public ObjectValidator(ValidatorRegistry validatorRegistry) {
+        this.validatorRegistry = validatorRegistry;
+        this.planCompiler = new PlanCompiler(validatorRegistry);
     }
 
     public ValidatorRegistry getValidatorRegistry() {
         return validatorRegistry;
     }
 
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    // Lists with at least this many items are validated in parallel unless the list's YAML entry sets its
+    // own parallelThreshold; 0 (the default) keeps validation on the calling thread
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("parallelThreshold must not be negative: " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public Executor getParallelExecutor() {
+        return parallelExecutor;
+    }
+
+    public void setParallelExecutor(Executor parallelExecutor) {
+        if (parallelExecutor == null) {
+            throw new IllegalArgumentException("parallelExecutor must not be null");
+        }
+        this.parallelExecutor = parallelExecutor;
+    }
+
+    public boolean isCodeGeneration() {
+        return codeGeneration;
+    }
+
+    // Validates each (model class, plan) pair with a generated class instead of the interpreter; the
+    // class is generated the first time the pair is seen. Needs org.ow2.asm:asm on the classpath.
+    public void setCodeGeneration(boolean codeGeneration) {
+        this.codeGeneration = codeGeneration;
+    }
+
+    public boolean isPrecompiled() {
+        return precompiled;
+    }
+
+    // Validators generated at build time by the annotation processor are used whenever one matches the
+    // model class and plan; turn this off to force the interpreter, e.g. to rule them out while debugging
+    public void setPrecompiled(boolean precompiled) {
+        this.precompiled = precompiled;
+    }
+
+    public ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    // Records latency per plan and time and outcomes per field and rule, e.g. with
+    // ValidationMetrics.getDefault(); null, the default, records nothing. Measured validations run on
+    // the interpreter, since generated validators have no per-rule hooks.
+    public void setMetrics(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public boolean isAdaptiveRuleOrder() {
+        return adaptiveRuleOrder;
+    }
+
+    // Fail-fast validation runs each field's rules in an order learned from sampled failure rates, so a
+    // rejected value is found by the cheapest likely rule. The violation reported is still the first in
+    // plan order: once a rule fails, the plan's earlier rules that have not run are checked too.
+    // Generated validators keep the plan's order.
+    public void setAdaptiveRuleOrder(boolean adaptiveRuleOrder) {
+        this.adaptiveRuleOrder = adaptiveRuleOrder;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    // The deepest an object may be nested, counting the validated object as 1; 0 (the default) means no
+    // limit. Traversal depth is bounded by the plan's nesting anyway, so this matters for deep plans.
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    // The most objects one validation may visit, including list items; 0 (the default) means no limit
+    public void setMaxNodes(long maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    public boolean isCycleDetection() {
+        return cycleDetection;
+    }
+
+    // Rejects an object that is nested inside itself, compared by identity
+    public void setCycleDetection(boolean cycleDetection) {
+        this.cycleDetection = cycleDetection;
+    }
+
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    // How long one validation may run; the clock is read every 64 objects, so a validation can overrun
+    // by the time those take. null (the default) means no limit.
+    public void setTimeBudget(Duration timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    // Null when no limit is set, so unlimited validations skip the bookkeeping
+    private TraversalLimits limits() {
+        Duration timeBudget = this.timeBudget;
+        if (maxDepth <= 0 && maxNodes <= 0 && !cycleDetection && timeBudget == null) {
+            return null;
+        }
+        return new TraversalLimits(maxDepth, maxNodes, cycleDetection, timeBudget == null ? 0 : timeBudget.toNanos());
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    // Skips objects, at any depth, that the cache has already seen pass the same plan; null (the
+    // default) turns caching off
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    public ValidationPlan compile(List<Map<String, Object>> validations) {
+        return planCompiler.compile(validations);
+    }
+
     public void validateObject(Object obj, List<Map<String, Object>> validations) {
+        validateObject(obj, planCache.get(validations, planCompiler::compile));
+    }
+
+    // Fail-fast: throws a ValidationException for the first violation found
+    public void validateObject(Object obj, ValidationPlan plan) {
+        run(obj, plan, true);
+    }
+
+    public ValidationResult validate(Object obj, List<Map<String, Object>> validations) {
+        return validate(obj, planCache.get(validations, planCompiler::compile));
+    }
+
+    // Collect-all: returns every violation instead of stopping at the first one
+    public ValidationResult validate(Object obj, ValidationPlan plan) {
+        return run(obj, plan, false);
+    }
+
+    // Validates each object against one plan, lazily and in encounter order. Valid objects map to
+    // ValidationResult.valid(), so callers can zip results with their input.
+    public Stream<ValidationResult> validateAll(Iterable<?> objects, ValidationPlan plan) {
+        return validateAll(objects, plan, false);
+    }
+
+    // In parallel, batches of objects are validated on the parallel executor, with a few batches per
+    // thread in flight; the iterator is read only as fast as the stream is consumed. The returned stream
+    // is sequential either way.
+    public Stream<ValidationResult> validateAll(Iterable<?> objects, ValidationPlan plan, boolean parallel) {
+        if (!parallel) {
+            return validateAll(StreamSupport.stream(objects.spliterator(), false), plan);
+        }
+        return StreamSupport.stream(new BatchSpliterator<Object, ValidationResult>(objects.iterator(),
+            obj -> validate(obj, plan), parallelExecutor, parallelism() * BATCHES_PER_THREAD), false);
+    }
+
+    public Stream<ValidationResult> validateAll(Stream<?> objects, ValidationPlan plan) {
+        return objects.map(obj -> validate(obj, plan));
+    }
+
+    // Collect-all validation of an object that has changed since it produced previous. Only the rules on
+    // the changed paths, and on everything below them, run again; the rest of previous is kept. Paths
+    // are written like violation paths, e.g. customer.email or items[5].quantity. A path the plan does
+    // not validate changes nothing, and a path that no longer exists, e.g. past the end of a list, is
+    // re-validated from the nearest ancestor that does.
+    public ValidationResult revalidate(Object obj, ValidationPlan plan, ValidationResult previous,
+                                       Collection<String> changedPaths) {
         if (obj == null) {
-            throw new ValidationException("Object cannot be null");
+            return validate(obj, plan);
+        }
+        Set<String> targets = new LinkedHashSet<>();
+        for (String changedPath : changedPaths) {
+            List<Object> target = resolve(obj, plan, FieldPath.parse(changedPath));
+            if (target != null) {
+                if (target.isEmpty()) {
+                    return validate(obj, plan);
+                }
+                targets.add(FieldPath.format(target));
+            }
+        }
+        // A path inside another changed path is re-validated with it
+        targets.removeIf(target -> targets.stream()
+            .anyMatch(other -> !other.equals(target) && FieldPath.covers(other, target)));
+        if (targets.isEmpty()) {
+            return previous;
+        }
+
+        ValidationContext ctx = CONTEXTS.get();
+        if (ctx.isInUse()) {
+            ctx = new ValidationContext();
+        }
+        ctx.begin(false);
+        ctx.setLimits(limits());
+        try {
+            for (String target : targets) {
+                revalidatePath(obj, plan, FieldPath.parse(target), ctx);
+            }
+            List<Violation> violations = new ArrayList<>();
+            for (Violation violation : previous.getViolations()) {
+                if (targets.stream().noneMatch(target -> FieldPath.covers(target, violation.getPath()))) {
+                    violations.add(violation);
+                }
+            }
+            violations.addAll(ctx.toResult().getViolations());
+            violations.sort(FieldPath.traversalOrder(plan));
+            return ValidationResult.of(violations);
+        } finally {
+            ctx.end();
+        }
+    }
+
+    // The part of the path to re-validate, or null when no rule depends on it. Stops at value fields,
+    // at nulls, at indexes the list no longer has, and at names the plan validates more than once.
+    private List<Object> resolve(Object obj, ValidationPlan plan, List<Object> segments) {
+        Object current = obj;
+        ValidationPlan currentPlan = plan;
+        for (int i = 0; i < segments.size(); i++) {
+            if (!(segments.get(i) instanceof String)) {
+                return segments.subList(0, i);
+            }
+            int index = currentPlan.indexOf((String) segments.get(i));
+            if (index < 0) {
+                return null;
+            }
+            FieldPlan fieldPlan = currentPlan.getFields().get(index);
+            List<Object> field = segments.subList(0, i + 1);
+            if (fieldPlan.getKind() == FieldPlan.Kind.VALUE || i == segments.size() - 1
+                || fieldPlan.getNested() == null || isRepeated(currentPlan, index)) {
+                return field;
+            }
+            Object value = accessor(fieldPlan, current).get(current);
+            if (value == null) {
+                return field;
+            }
+            if (fieldPlan.getKind() == FieldPlan.Kind.LIST) {
+                if (!(segments.get(i + 1) instanceof Integer) || !(value instanceof List)) {
+                    return field;
+                }
+                int item = (Integer) segments.get(i + 1);
+                List<?> list = (List<?>) value;
+                if (item < 0 || item >= list.size()) {
+                    return field;
+                }
+                value = list.get(item);
+                if (++i == segments.size() - 1 || value == null) {
+                    return segments.subList(0, i + 1);
+                }
+            }
+            current = value;
+            currentPlan = fieldPlan.getNested();
+        }
+        return segments;
+    }
+
+    private static boolean isRepeated(ValidationPlan plan, int index) {
+        List<FieldPlan> fields = plan.getFields();
+        String name = fields.get(index).getName();
+        for (int i = index + 1; i < fields.size(); i++) {
+            if (fields.get(i).getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Runs the rules at a path that resolve() returned
+    private void revalidatePath(Object obj, ValidationPlan plan, List<Object> segments, ValidationContext ctx) {
+        Object current = obj;
+        ValidationPlan currentPlan = plan;
+        int pushed = 0;
+        try {
+            for (int i = 0; i < segments.size(); i++) {
+                String name = (String) segments.get(i);
+                if (i == segments.size() - 1) {
+                    // Every entry the plan has for the field
+                    List<FieldPlan> fields = currentPlan.getFields();
+                    for (int f = currentPlan.indexOf(name); f < fields.size(); f++) {
+                        if (fields.get(f).getName().equals(name)) {
+                            revalidateField(current, fields.get(f), ctx);
+                        }
+                    }
+                    return;
+                }
+                FieldPlan fieldPlan = currentPlan.getFields().get(currentPlan.indexOf(name));
+                Object value = accessor(fieldPlan, current).get(current);
+                ctx.pushField(name);
+                pushed++;
+                if (fieldPlan.getKind() == FieldPlan.Kind.LIST) {
+                    int item = (Integer) segments.get(++i);
+                    value = ((List<?>) value).get(item);
+                    ctx.pushIndex(item);
+                    pushed++;
+                    if (i == segments.size() - 1) {
+                        validateObject(value, fieldPlan.getNested(), ctx);
+                        return;
+                    }
+                }
+                current = value;
+                currentPlan = fieldPlan.getNested();
+            }
+        } finally {
+            while (pushed-- > 0) {
+                ctx.pop();
+            }
+        }
+    }
+
+    private void revalidateField(Object obj, FieldPlan fieldPlan, ValidationContext ctx) {
+        FieldAccessor accessor = accessor(fieldPlan, obj);
+        if (fieldPlan.getKind() == FieldPlan.Kind.VALUE) {
+            ctx.pushField(fieldPlan.getName());
+            validateValue(obj, accessor, fieldPlan, ctx);
+            ctx.pop();
+        } else {
+            validateStructuralField(accessor.get(obj), fieldPlan, ctx);
+        }
+    }
+
+    private ValidationResult run(Object obj, ValidationPlan plan, boolean failFast) {
+        ValidationContext ctx = CONTEXTS.get();
+        if (ctx.isInUse()) {
+            // Re-entrant call, e.g. from a custom FieldValidator
+            ctx = new ValidationContext();
+        }
+        ValidationMetrics metrics = this.metrics;
+        if (metrics == null) {
+            ctx.begin(failFast);
+            ctx.setLimits(limits());
+            try {
+                return validate(obj, plan, ctx);
+            } finally {
+                ctx.end();
+            }
+        }
+
+        ctx.begin(failFast, metrics, plan.getName());
+        ctx.setLimits(limits());
+        long start = System.nanoTime();
+        boolean valid = false;
+        try {
+            ValidationResult result = validate(obj, plan, ctx);
+            valid = result.isValid();
+            return result;
+        } finally {
+            metrics.recordValidation(plan.getName(), System.nanoTime() - start, valid);
+            ctx.end();
+        }
+    }
+
+    private ValidationResult validate(Object obj, ValidationPlan plan, ValidationContext ctx) {
+        validateObject(obj, plan, ctx);
+        if (ctx.isStopped()) {
+            throw ctx.failure();
         }
+        return ctx.toResult();
+    }
 
-        for (Map<String, Object> validation : validations) {
-            String fieldName = (String) validation.get("field");
+    private void validateObject(Object obj, ValidationPlan plan, ValidationContext ctx) {
+        if (obj == null) {
+            ctx.reject("required", "Object cannot be null");
+            return;
+        }
+        if (ctx.hasLimits()) {
+            ctx.enterObject(obj);
             try {
-                Field field = obj.getClass().getDeclaredField(fieldName);
-                field.setAccessible(true);
-                Object value = field.get(obj);
-
-                // Check if the field is required
-                boolean isRequired = isFieldRequired(validation);
-
-                String type = (String) validation.get("type");
-                if ("object".equals(type)) {
-                    validateNestedObject(value, (List<Map<String, Object>>) validation.get("fields"), isRequired);
-                } else if ("list".equals(type)) {
-                    validateList(value, validation, isRequired);
+                validateOrLookUp(obj, plan, ctx);
+            } finally {
+                ctx.exitObject();
+            }
+            return;
+        }
+        validateOrLookUp(obj, plan, ctx);
+    }
+
+    private void validateOrLookUp(Object obj, ValidationPlan plan, ValidationContext ctx) {
+        ResultCache resultCache = this.resultCache;
+        Object key = resultCache == null ? null : resultCache.keyFor(obj, plan);
+        if (key == null) {
+            validateFields(obj, plan, ctx);
+            return;
+        }
+        if (resultCache.isValid(key)) {
+            return;
+        }
+        int violations = ctx.getViolationCount();
+        validateFields(obj, plan, ctx);
+        if (!ctx.isStopped() && ctx.getViolationCount() == violations) {
+            resultCache.putValid(key);
+        }
+    }
+
+    private void validateFields(Object obj, ValidationPlan plan, ValidationContext ctx) {
+        if ((precompiled || codeGeneration) && ctx.getMetrics() == null) {
+            GeneratedValidator generated = GeneratedValidators.find(obj.getClass(), plan, precompiled, codeGeneration);
+            if (generated != null) {
+                generated.validate(obj, plan, ctx, nestedValidator);
+                return;
+            }
+        }
+
+        List<FieldPlan> fields = plan.getFields();
+        for (int i = 0; i < fields.size() && !ctx.isStopped(); i++) {
+            FieldPlan fieldPlan = fields.get(i);
+            String fieldName = fieldPlan.getName();
+            FieldAccessor accessor = accessor(fieldPlan, obj);
+
+            if (fieldPlan.getKind() == FieldPlan.Kind.VALUE) {
+                ctx.pushField(fieldName);
+                ValidationMetrics metrics = ctx.getMetrics();
+                if (metrics == null) {
+                    validateValue(obj, accessor, fieldPlan, ctx);
                 } else {
-                    validateField(fieldName, value, (List<Map<String, Object>>) validation.get("rules"));
+                    long start = System.nanoTime();
+                    validateValue(obj, accessor, fieldPlan, ctx);
+                    metrics.recordField(ctx.getEndpoint(), fieldPlan.getPath(), System.nanoTime() - start);
                 }
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                logger.error("Error validating field: {}", fieldName, e);
-                throw new ValidationException("Error accessing field: " + fieldName, e);
+                ctx.pop();
+            } else {
+                validateStructuralField(accessor.get(obj), fieldPlan, ctx);
+            }
+        }
+    }
+
+    private static FieldAccessor accessor(FieldPlan fieldPlan, Object obj) {
+        try {
+            return fieldPlan.getAccessor(obj.getClass());
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            logger.error("Error validating field: {}", fieldPlan.getName(), e);
+            throw new ValidationException("Error accessing field: " + fieldPlan.getName(), e);
+        }
+    }
+
+    // int, long and double fields are read and checked unboxed; the value is boxed only to report a violation
+    private void validateValue(Object obj, FieldAccessor accessor, FieldPlan fieldPlan, ValidationContext ctx) {
+        List<CompiledRule> rules = fieldPlan.getRules();
+        RuleOrder ruleOrder = fieldPlan.getRuleOrder();
+        int[] order = null;
+        if (adaptiveRuleOrder && ruleOrder != null && ctx.isFailFast()) {
+            if (ctx.sample()) {
+                ruleOrder.sample(accessor.get(obj));
             }
+            order = ruleOrder.getOrder();
+        }
+        Class<?> type = accessor.getType();
+        String name = fieldPlan.getName();
+        if (type == int.class) {
+            validateRules(name, fieldPlan, rules, order, INT_VALUE, null, accessor.getInt(obj), 0, ctx);
+        } else if (type == long.class) {
+            validateRules(name, fieldPlan, rules, order, LONG_VALUE, null, accessor.getLong(obj), 0, ctx);
+        } else if (type == double.class) {
+            validateRules(name, fieldPlan, rules, order, DOUBLE_VALUE, null, 0, accessor.getDouble(obj), ctx);
+        } else {
+            validateRules(name, fieldPlan, rules, order, OBJECT_VALUE, accessor.get(obj), 0, 0, ctx);
         }
     }
 
-    private boolean isFieldRequired(Map<String, Object> validation) {
-        List<Map<String, Object>> rules = (List<Map<String, Object>>) validation.get("rules");
-        if (rules == null) {
-            return false;
+    private void validateStructuralField(Object value, FieldPlan fieldPlan, ValidationContext ctx) {
+        ctx.pushField(fieldPlan.getName());
+        if (fieldPlan.getKind() == FieldPlan.Kind.OBJECT) {
+            validateNestedObject(value, fieldPlan, ctx);
+        } else {
+            validateList(value, fieldPlan, ctx);
         }
-        return rules.stream()
-            .anyMatch(rule -> "required".equals(rule.get("type")));
+        ctx.pop();
     }
 
-    private void validateNestedObject(Object value, List<Map<String, Object>> fields, boolean isRequired) {
+    private void validateNestedObject(Object value, FieldPlan fieldPlan, ValidationContext ctx) {
         if (value == null) {
-            if (isRequired) {
-                throw new ValidationException("Required nested object cannot be null");
+            if (fieldPlan.isRequired()) {
+                ctx.reject("required", "Required nested object cannot be null");
             }
             return; // Exit validation if object is null and not required
         }
         
         // If object is present (not null), validate its fields regardless of whether the object itself is required
-        validateObject(value, fields);
+        if (fieldPlan.getNested() != null) {
+            validateObject(value, fieldPlan.getNested(), ctx);
+        }
     }
 
-    private void validateList(Object value, Map<String, Object> validation, boolean isRequired) {
+    private void validateList(Object value, FieldPlan fieldPlan, ValidationContext ctx) {
         // First check if list is null
         if (value == null) {
-            if (isRequired) {
-                throw new ValidationException("Required list cannot be null");
+            if (fieldPlan.isRequired()) {
+                ctx.reject("required", "Required list cannot be null");
             }
             return; // Exit validation if list is null and not required
         }
 
-        List<Object> list = (List<Object>) value;
-        List<Map<String, Object>> rules = (List<Map<String, Object>>) validation.get("rules");
-        List<Map<String, Object>> itemValidations = 
-            (List<Map<String, Object>>) validation.get("itemValidations");
+        List<?> list = (List<?>) value;
 
         // Check if list is empty when required
-        if (isRequired && list.isEmpty()) {
-            throw new ValidationException("Required list cannot be empty");
+        if (list.isEmpty()) {
+            if (fieldPlan.isRequired()) {
+                ctx.reject("required", "Required list cannot be empty");
+            }
+            return;
         }
 
-        // Validate list rules (e.g., minSize) only if list is not empty
-        if (!list.isEmpty() && rules != null) {
-            for (Map<String, Object> rule : rules) {
-                validatorRegistry.getValidator((String) rule.get("type"))
-                    .validate("list", list, rule);
-            }
+        // Validate list rules (e.g., minSize)
+        validateRules("list", fieldPlan, fieldPlan.getRules(), null, OBJECT_VALUE, list, 0, 0, ctx);
+        if (ctx.isStopped()) {
+            return;
         }
 
         // Validate each item in the list if itemValidations are present
-        if (itemValidations != null && !list.isEmpty()) {
+        ValidationPlan itemPlan = fieldPlan.getNested();
+        if (itemPlan != null) {
+            int threshold = fieldPlan.getParallelThreshold() == FieldPlan.INHERIT_PARALLEL_THRESHOLD
+                ? parallelThreshold : fieldPlan.getParallelThreshold();
+            // Lists nested inside a parallel chunk stay sequential, so chunks never wait on each other
+            if (threshold > 0 && list.size() >= threshold && !ctx.isForked()) {
+                validateItemsInParallel(list, itemPlan, ctx);
+                return;
+            }
+            int index = 0;
             for (Object item : list) {
-                validateObject(item, itemValidations);
+                if (ctx.isStopped()) {
+                    return;
+                }
+                ctx.pushIndex(index++);
+                validateObject(item, itemPlan, ctx);
+                ctx.pop();
+            }
+        }
+    }
+
+    private void validateItemsInParallel(List<?> list, ValidationPlan itemPlan, ValidationContext ctx) {
+        List<?> items = list instanceof RandomAccess ? list : new ArrayList<>(list);
+        int size = items.size();
+        int parallelism = parallelism();
+        int chunkCount = Math.max(1, Math.min(size, parallelism * CHUNKS_PER_THREAD));
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+        chunkCount = (size + chunkSize - 1) / chunkSize;
+
+        ValidationContext[] chunks = new ValidationContext[chunkCount];
+        // Fail-fast: chunks after the lowest failing one stop early, as their violations can never be reported
+        AtomicInteger firstFailedChunk = new AtomicInteger(Integer.MAX_VALUE);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunkCount - 1];
+        for (int c = 0; c < chunkCount; c++) {
+            chunks[c] = ctx.fork();
+        }
+        for (int c = 1; c < chunkCount; c++) {
+            int chunk = c;
+            futures[c - 1] = CompletableFuture.runAsync(() -> validateChunk(items, chunk * chunkSize,
+                Math.min(size, (chunk + 1) * chunkSize), itemPlan, chunks[chunk], chunk, firstFailedChunk),
+                parallelExecutor);
+        }
+        validateChunk(items, 0, Math.min(size, chunkSize), itemPlan, chunks[0], 0, firstFailedChunk);
+
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        for (ValidationContext chunk : chunks) {
+            ctx.join(chunk);
+            if (ctx.isStopped()) {
+                return;
+            }
+        }
+    }
+
+    private int parallelism() {
+        Executor executor = parallelExecutor;
+        return executor instanceof ForkJoinPool
+            ? ((ForkJoinPool) executor).getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+    }
+
+    private void validateChunk(List<?> items, int from, int to, ValidationPlan itemPlan, ValidationContext ctx,
+                               int chunk, AtomicInteger firstFailedChunk) {
+        for (int i = from; i < to && !ctx.isStopped() && firstFailedChunk.get() > chunk; i++) {
+            ctx.pushIndex(i);
+            validateObject(items.get(i), itemPlan, ctx);
+            ctx.pop();
+        }
+        if (ctx.isStopped()) {
+            firstFailedChunk.accumulateAndGet(chunk, Math::min);
+        }
+    }
+
+    // An int or long is checked unboxed from longValue, a double from doubleValue and anything else from
+    // value; the primitive is boxed only to report a violation
+    private void validateRules(String field, FieldPlan fieldPlan, List<CompiledRule> rules, int[] order,
+                               int kind, Object value, long longValue, double doubleValue,
+                               ValidationContext ctx) {
+        ValidationMetrics metrics = ctx.getMetrics();
+        for (int k = 0; k < rules.size(); k++) {
+            int i = order == null ? k : order[k];
+            CompiledRule rule = rules.get(i);
+            int code = check(rule.getCheck(), kind, value, longValue, doubleValue);
+            if (metrics != null) {
+                metrics.recordRule(ctx.getEndpoint(), fieldPlan.getPath(), rule.getType(), code != RuleCheck.VALID);
+            }
+            if (code == RuleCheck.VALID) {
+                continue;
+            }
+            if (order != null) {
+                // Report what plan order would: the first failure among the plan's earlier rules not run yet
+                for (int j = 0; j < i; j++) {
+                    if (!hasRun(order, k, j)) {
+                        int earlierCode = check(rules.get(j).getCheck(), kind, value, longValue, doubleValue);
+                        if (earlierCode != RuleCheck.VALID) {
+                            rule = rules.get(j);
+                            code = earlierCode;
+                            break;
+                        }
+                    }
+                }
+            }
+            ctx.reject(rule.getType(), rule.getCheck(), field, boxed(kind, value, longValue, doubleValue), code);
+            if (ctx.isStopped()) {
+                return;
             }
         }
     }
 
-    private void validateField(String field, Object value, List<Map<String, Object>> rules) {
-        for (Map<String, Object> rule : rules) {
-            String type = (String) rule.get("type");
-            validatorRegistry.getValidator(type).validate(field, value, rule);
+    private static int check(RuleCheck check, int kind, Object value, long longValue, double doubleValue) {
+        switch (kind) {
+            case INT_VALUE:
+                return check.checkInt((int) longValue);
+            case LONG_VALUE:
+                return check.checkLong(longValue);
+            case DOUBLE_VALUE:
+                return check.checkDouble(doubleValue);
+            default:
+                return check.check(value);
+        }
+    }
+
+    private static Object boxed(int kind, Object value, long longValue, double doubleValue) {
+        switch (kind) {
+            case INT_VALUE:
+                return (int) longValue;
+            case LONG_VALUE:
+                return longValue;
+            case DOUBLE_VALUE:
+                return doubleValue;
+            default:
+                return value;
+        }
+    }
+
+    // Whether the plan's rule index ran among the first ran rules of order
+    private static boolean hasRun(int[] order, int ran, int index) {
+        for (int k = 0; k < ran; k++) {
+            if (order[k] == index) {
+                return true;
+            }
         }
+        return false;
     }
-} 
\ No newline at end of file
+}
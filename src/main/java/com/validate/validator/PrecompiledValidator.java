@@ -0,0 +1,11 @@
+package com.validate.validator;
+
+// A GeneratedValidator written at build time by the annotation processor and registered with
+// ServiceLoader. ObjectValidator uses it for its target type whenever the plan's fingerprint matches
+// the plan it was generated from.
+public interface PrecompiledValidator extends GeneratedValidator {
+
+    Class<?> getTargetType();
+
+    long getPlanFingerprint();
+}
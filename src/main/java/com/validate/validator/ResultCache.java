@@ -0,0 +1,231 @@
+package com.validate.validator;
+
+import com.validate.validator.plan.ValidationPlan;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Remembers which objects were found valid against which plan, so an unchanged object (or sub-object) is
+// not validated again. Only classes registered with cacheByIdentity or cacheByKey are cached:
+// - cacheByIdentity is for immutable classes; the same instance is assumed to be still valid
+// - cacheByKey is for classes with a content hash or version that changes whenever the object does
+// Only valid outcomes are kept, so violations and their paths are always computed fresh.
+//
+// Entries are keyed by the plan's id, so a reloaded config never hits entries of the plans it replaced;
+// those age out. The cache is split into stripes, each evicting its least recently used entry.
+// Identity entries whose object was collected are dropped on the next lookup or store.
+public class ResultCache {
+    private static final int STRIPES = 16;
+    private static final Function<Object, Object> IDENTITY = obj -> obj;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private volatile Map<Class<?>, Function<Object, Object>> keys = Map.of();
+
+    public ResultCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        int perStripe = Math.max(1, (maximumSize + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    // Instances of exactly this class are cached by identity, and held weakly
+    public void cacheByIdentity(Class<?> type) {
+        register(type, null);
+    }
+
+    // Instances of exactly this class are cached under the key the function returns, e.g. an id and a
+    // version. Returning null skips the cache for that instance.
+    @SuppressWarnings("unchecked")
+    public <T> void cacheByKey(Class<T> type, Function<? super T, ?> key) {
+        register(type, (Function<Object, Object>) Objects.requireNonNull(key));
+    }
+
+    private synchronized void register(Class<?> type, Function<Object, Object> key) {
+        Map<Class<?>, Function<Object, Object>> updated = new HashMap<>(keys);
+        updated.put(type, key == null ? IDENTITY : key);
+        keys = Map.copyOf(updated);
+    }
+
+    // Null when objects of this class are not cached
+    Object keyFor(Object obj, ValidationPlan plan) {
+        Function<Object, Object> key = keys.get(obj.getClass());
+        if (key == null) {
+            return null;
+        }
+        if (key == IDENTITY) {
+            return new IdentityKey(plan.getId(), obj, collected);
+        }
+        Object content = key.apply(obj);
+        return content == null ? null : new ContentKey(plan.getId(), obj.getClass(), content);
+    }
+
+    boolean isValid(Object key) {
+        expungeCollected();
+        boolean valid = stripe(key).contains(key);
+        (valid ? hits : misses).increment();
+        return valid;
+    }
+
+    void putValid(Object key) {
+        expungeCollected();
+        stripe(key).put(key);
+    }
+
+    // A cleared key keeps its hash and still equals itself, so it finds its own entry
+    private void expungeCollected() {
+        Reference<?> key;
+        while ((key = collected.poll()) != null) {
+            stripe(key).remove(key);
+        }
+    }
+
+    private Stripe stripe(Object key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    // 0 before the first lookup
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    private final class Stripe {
+        private final Map<Object, Boolean> entries;
+
+        Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized boolean contains(Object key) {
+            // get, not containsKey, so the entry moves to the most recently used end
+            return entries.get(key) != null;
+        }
+
+        synchronized void put(Object key) {
+            entries.put(key, Boolean.TRUE);
+        }
+
+        synchronized void remove(Object key) {
+            entries.remove(key);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+    }
+
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final long planId;
+        private final int hash;
+
+        IdentityKey(long planId, Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.planId = planId;
+            this.hash = 31 * Long.hashCode(planId) + System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            IdentityKey key = (IdentityKey) other;
+            Object referent = get();
+            return planId == key.planId && referent != null && referent == key.get();
+        }
+    }
+
+    private static final class ContentKey {
+        private final long planId;
+        private final Class<?> type;
+        private final Object content;
+        private final int hash;
+
+        ContentKey(long planId, Class<?> type, Object content) {
+            this.planId = planId;
+            this.type = type;
+            this.content = content;
+            this.hash = Objects.hash(planId, type, content);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ContentKey)) {
+                return false;
+            }
+            ContentKey key = (ContentKey) other;
+            return planId == key.planId && type == key.type && content.equals(key.content);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.validate.validator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// The limits of one traversal, shared with the contexts it forks for parallel lists
+final class TraversalLimits {
+    // The clock is read once every this many objects
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private final int maxDepth;
+    private final long maxNodes;
+    private final boolean cycleDetection;
+    private final long deadline;
+    private final boolean hasDeadline;
+    private final AtomicLong nodes = new AtomicLong();
+
+    TraversalLimits(int maxDepth, long maxNodes, boolean cycleDetection, long timeBudgetNanos) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.cycleDetection = cycleDetection;
+        this.hasDeadline = timeBudgetNanos > 0;
+        this.deadline = hasDeadline ? System.nanoTime() + timeBudgetNanos : 0;
+    }
+
+    // Called before an object is validated; ancestors holds the objects enclosing it, outermost first
+    void enter(Object obj, Object[] ancestors, int depth, ValidationContext ctx) {
+        if (maxDepth > 0 && depth >= maxDepth) {
+            throw new ValidationLimitException("Validation exceeded the maximum depth of " + maxDepth,
+                ctx.currentPath());
+        }
+        long count = nodes.incrementAndGet();
+        if (maxNodes > 0 && count > maxNodes) {
+            throw new ValidationLimitException("Validation exceeded the maximum of " + maxNodes + " objects",
+                ctx.currentPath());
+        }
+        if (hasDeadline && count % DEADLINE_CHECK_INTERVAL == 1 && System.nanoTime() - deadline > 0) {
+            throw new ValidationLimitException("Validation exceeded its time budget", ctx.currentPath());
+        }
+        if (cycleDetection) {
+            for (int i = 0; i < depth; i++) {
+                if (ancestors[i] == obj) {
+                    throw new ValidationLimitException("Validation found a cycle", ctx.currentPath());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.validate.validator;
+
+import com.validate.validator.metrics.ValidationMetrics;
+import com.validate.validator.plan.CompiledRule;
+import com.validate.validator.rules.RuleCheck;
+import com.validate.validator.rules.RuleViolationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Per-traversal state: the current field path and the violations found so far. Instances are reused
+// across validations on a thread, so a valid object is checked without allocating.
+//
+// In fail-fast mode the first violation is only recorded and the traversal unwinds by checking
+// isStopped(); the exception is built once, by whoever started the traversal.
+public final class ValidationContext {
+    private static final int NO_INDEX = -1;
+
+    private final List<Violation> violations = new ArrayList<>();
+    private String[] names = new String[16];
+    private int[] indexes = new int[16];
+    private int depth;
+    private boolean failFast;
+    private boolean inUse;
+    private boolean stopped;
+    private boolean forked;
+    // Set while a validation is measured; null otherwise
+    private ValidationMetrics metrics;
+    private String endpoint;
+    // Counts values seen for sampling; per thread, so it never contends
+    private int sampleClock;
+    // Set while a validation has limits; the objects being validated, outermost first
+    private TraversalLimits limits;
+    private Object[] objects = new Object[8];
+    private int objectDepth;
+
+    // First violation in fail-fast mode, kept unformatted until the exception is built
+    private String failedMessage;
+    private RuleCheck failedCheck;
+    private String failedField;
+    private Object failedValue;
+    private int failedCode;
+
+    ValidationContext() {
+    }
+
+    void begin(boolean failFast) {
+        begin(failFast, null, null);
+    }
+
+    void begin(boolean failFast, ValidationMetrics metrics, String endpoint) {
+        this.failFast = failFast;
+        this.metrics = metrics;
+        this.endpoint = endpoint;
+        this.inUse = true;
+        this.stopped = false;
+        this.depth = 0;
+    }
+
+    void end() {
+        violations.clear();
+        failedMessage = null;
+        failedCheck = null;
+        failedField = null;
+        failedValue = null;
+        Arrays.fill(names, 0, depth, null);
+        depth = 0;
+        metrics = null;
+        endpoint = null;
+        Arrays.fill(objects, 0, objectDepth, null);
+        objectDepth = 0;
+        limits = null;
+        inUse = false;
+    }
+
+    boolean isInUse() {
+        return inUse;
+    }
+
+    // A context for validating part of a list on another thread, starting at this context's current path
+    ValidationContext fork() {
+        ValidationContext child = new ValidationContext();
+        child.begin(failFast, metrics, endpoint);
+        child.forked = true;
+        while (child.names.length < depth + 1) {
+            child.names = new String[child.names.length * 2];
+            child.indexes = new int[child.indexes.length * 2];
+        }
+        System.arraycopy(names, 0, child.names, 0, depth);
+        System.arraycopy(indexes, 0, child.indexes, 0, depth);
+        child.depth = depth;
+        child.limits = limits;
+        if (limits != null) {
+            child.objects = Arrays.copyOf(objects, objects.length);
+            child.objectDepth = objectDepth;
+        }
+        return child;
+    }
+
+    boolean isForked() {
+        return forked;
+    }
+
+    // True for one value in every 64
+    boolean sample() {
+        return (++sampleClock & 63) == 0;
+    }
+
+    void setLimits(TraversalLimits limits) {
+        this.limits = limits;
+    }
+
+    boolean hasLimits() {
+        return limits != null;
+    }
+
+    // Around each object validated while the traversal has limits
+    void enterObject(Object obj) {
+        limits.enter(obj, objects, objectDepth, this);
+        if (objectDepth == objects.length) {
+            objects = Arrays.copyOf(objects, objectDepth * 2);
+        }
+        objects[objectDepth++] = obj;
+    }
+
+    void exitObject() {
+        objects[--objectDepth] = null;
+    }
+
+    ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    // Appends a forked context's outcome; forks must be joined in list order to keep results deterministic
+    void join(ValidationContext child) {
+        if (child.stopped) {
+            failedMessage = child.failedMessage;
+            failedCheck = child.failedCheck;
+            failedField = child.failedField;
+            failedValue = child.failedValue;
+            failedCode = child.failedCode;
+            stopped = true;
+        } else {
+            violations.addAll(child.violations);
+        }
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    // True once a fail-fast traversal has found its violation; callers stop as soon as they see it
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    void pushField(String name) {
+        ensureCapacity();
+        names[depth] = name;
+        indexes[depth++] = NO_INDEX;
+    }
+
+    void pushIndex(int index) {
+        ensureCapacity();
+        names[depth] = null;
+        indexes[depth++] = index;
+    }
+
+    void pop() {
+        names[--depth] = null;
+    }
+
+    private void ensureCapacity() {
+        if (depth == names.length) {
+            names = Arrays.copyOf(names, depth * 2);
+            indexes = Arrays.copyOf(indexes, depth * 2);
+        }
+    }
+
+    public String currentPath() {
+        StringBuilder path = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            if (indexes[i] != NO_INDEX) {
+                path.append('[').append(indexes[i]).append(']');
+            } else {
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(names[i]);
+            }
+        }
+        return path.toString();
+    }
+
+    int getViolationCount() {
+        return violations.size();
+    }
+
+    public void reject(String ruleType, String message) {
+        if (failFast) {
+            failedMessage = message;
+            stopped = true;
+            return;
+        }
+        violations.add(new Violation(currentPath(), ruleType, message));
+    }
+
+    public void reject(String ruleType, RuleCheck check, String field, Object value, int code) {
+        if (failFast) {
+            failedCheck = check;
+            failedField = field;
+            failedValue = value;
+            failedCode = code;
+            stopped = true;
+            return;
+        }
+        violations.add(new Violation(currentPath(), ruleType, check.message(field, value, code)));
+    }
+
+    // Runs a rule for a generated validator, usually after an inlined check has failed. Returns true
+    // when a fail-fast traversal has to stop.
+    public boolean checkField(String field, CompiledRule rule, Object value) {
+        RuleCheck check = rule.getCheck();
+        int code = check.check(value);
+        if (code != RuleCheck.VALID) {
+            rejectField(field, rule.getType(), check, value, code);
+        }
+        return stopped;
+    }
+
+    // The same for int, long and double values, which are boxed only when the rule fails
+    public boolean checkField(String field, CompiledRule rule, int value) {
+        RuleCheck check = rule.getCheck();
+        int code = check.checkInt(value);
+        if (code != RuleCheck.VALID) {
+            rejectField(field, rule.getType(), check, value, code);
+        }
+        return stopped;
+    }
+
+    public boolean checkField(String field, CompiledRule rule, long value) {
+        RuleCheck check = rule.getCheck();
+        int code = check.checkLong(value);
+        if (code != RuleCheck.VALID) {
+            rejectField(field, rule.getType(), check, value, code);
+        }
+        return stopped;
+    }
+
+    public boolean checkField(String field, CompiledRule rule, double value) {
+        RuleCheck check = rule.getCheck();
+        int code = check.checkDouble(value);
+        if (code != RuleCheck.VALID) {
+            rejectField(field, rule.getType(), check, value, code);
+        }
+        return stopped;
+    }
+
+    // For generated validators, which put the field on the path only once it has failed
+    public void rejectField(String field, String ruleType, RuleCheck check, Object value, int code) {
+        if (failFast) {
+            reject(ruleType, check, field, value, code);
+            return;
+        }
+        pushField(field);
+        violations.add(new Violation(currentPath(), ruleType, check.message(field, value, code)));
+        pop();
+    }
+
+    RuleViolationException failure() {
+        if (failedCheck != null) {
+            return new RuleViolationException(failedCheck, failedField, failedValue, failedCode);
+        }
+        return new RuleViolationException(failedMessage);
+    }
+
+    ValidationResult toResult() {
+        return ValidationResult.of(violations);
+    }
+}
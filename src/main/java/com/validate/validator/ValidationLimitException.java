@@ -0,0 +1,19 @@
+package com.validate.validator;
+
+import jakarta.validation.ValidationException;
+
+// Thrown, in both fail-fast and collect-all mode, when a traversal exceeds one of ObjectValidator's
+// limits; the object was not fully validated, so there is no result to return
+public class ValidationLimitException extends ValidationException {
+    private final String path;
+
+    public ValidationLimitException(String message, String path) {
+        super(path.isEmpty() ? message : message + " at " + path);
+        this.path = path;
+    }
+
+    // Where the traversal stopped, e.g. items[40000]; empty for the root
+    public String getPath() {
+        return path;
+    }
+}
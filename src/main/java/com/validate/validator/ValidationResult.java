@@ -0,0 +1,36 @@
+package com.validate.validator;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class ValidationResult {
+    private static final ValidationResult VALID = new ValidationResult(Collections.emptyList());
+
+    private final List<Violation> violations;
+
+    private ValidationResult(List<Violation> violations) {
+        this.violations = violations;
+    }
+
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    public static ValidationResult of(List<Violation> violations) {
+        return violations.isEmpty() ? VALID : new ValidationResult(List.copyOf(violations));
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    // In traversal order: declaration order of the fields, and index order within lists
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "ValidationResult[valid]" : "ValidationResult" + violations;
+    }
+}
@@ -0,0 +1,315 @@
+package com.validate.validator;
+
+import com.validate.validator.plan.CompiledRule;
+import com.validate.validator.plan.FieldPlan;
+import com.validate.validator.plan.ValidationPlan;
+import com.validate.validator.rules.MaxLengthValidator;
+import com.validate.validator.rules.MinLengthValidator;
+import com.validate.validator.rules.RequiredValidator;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+// Generates a hidden class per (model class, plan) that reads each field through its public getter and
+// inlines the built-in required, minLength and maxLength checks. When an inlined check fails, the rule's
+// own RuleCheck runs through ValidationContext.checkField to produce the code and message, so results
+// match the interpreter. Other rules always go through checkField; int, long and double values are
+// passed unboxed, so numeric rules such as OrderItem.quantity's min compare without allocating.
+// Returns null, leaving the object to the interpreter, when the class is not public or a field has
+// neither a public getter nor is public itself.
+final class ValidatorGenerator implements Opcodes {
+    private static final Logger logger = LoggerFactory.getLogger(ValidatorGenerator.class);
+
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String CONTEXT = Type.getInternalName(ValidationContext.class);
+    private static final String COMPILED_RULE = Type.getInternalName(CompiledRule.class);
+    private static final String NESTED = Type.getInternalName(GeneratedValidator.Nested.class);
+    private static final String VALIDATE_DESC = Type.getMethodDescriptor(Type.VOID_TYPE,
+        Type.getType(Object.class), Type.getType(ValidationPlan.class), Type.getType(ValidationContext.class),
+        Type.getType(GeneratedValidator.Nested.class));
+
+    // Locals of the generated validate method
+    private static final int CTX = 3;
+    private static final int NESTED_ARG = 4;
+    private static final int TARGET = 5;
+    private static final int VALUE = 6;
+
+    private ValidatorGenerator() {
+    }
+
+    static GeneratedValidator generate(Class<?> type, ValidationPlan plan) {
+        if (!Modifier.isPublic(type.getModifiers()) || type.isInterface() || type.isArray()
+                || type.isPrimitive() || type.isHidden()) {
+            return null;
+        }
+        List<FieldPlan> fields = plan.getFields();
+        List<Member> readers = new ArrayList<>(fields.size());
+        for (FieldPlan field : fields) {
+            Member reader = findReader(type, field.getName());
+            if (reader == null || (field.getKind() != FieldPlan.Kind.VALUE && readType(reader).isPrimitive())) {
+                return null;
+            }
+            readers.add(reader);
+        }
+        // The hidden class is defined in this class's loader, and resolves the types it names from there
+        if (!isVisible(type)) {
+            return null;
+        }
+        for (Member reader : readers) {
+            if (!isVisible(reader.getDeclaringClass()) || !isVisible(readType(reader))) {
+                return null;
+            }
+        }
+        try {
+            List<Object> constants = new ArrayList<>();
+            byte[] bytes = new Emitter(type, constants).emit(fields, readers);
+            MethodHandles.Lookup lookup = MethodHandles.lookup()
+                .defineHiddenClassWithClassData(bytes, constants.toArray(), true);
+            return (GeneratedValidator) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class))
+                .invoke();
+        } catch (Throwable e) {
+            logger.warn("Could not generate a validator for {}, using the interpreter", type.getName(), e);
+            return null;
+        }
+    }
+
+    // The getter the generated code calls, or the field itself when it is public. Only fields declared
+    // by the class are considered, like the interpreter does.
+    private static Member findReader(Class<?> type, String name) {
+        Field field;
+        try {
+            field = type.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+        if (Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String prefix : field.getType() == boolean.class ? new String[] {"is", "get"} : new String[] {"get"}) {
+            try {
+                Method getter = type.getMethod(prefix + suffix);
+                if (getter.getReturnType() == field.getType() && !Modifier.isStatic(getter.getModifiers())
+                        && Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+                    return getter;
+                }
+            } catch (NoSuchMethodException e) {
+                // Try the next prefix
+            }
+        }
+        return Modifier.isPublic(field.getModifiers()) ? field : null;
+    }
+
+    // False for classes from a child loader, e.g. a webapp's, which the generated code could not link to
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, ValidatorGenerator.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Class<?> readType(Member reader) {
+        return reader instanceof Method ? ((Method) reader).getReturnType() : ((Field) reader).getType();
+    }
+
+    private static final class Emitter {
+        private final String owner;
+        private final String className;
+        private final List<Object> constants;
+        private final ClassWriter cw;
+
+        Emitter(Class<?> type, List<Object> constants) {
+            this.owner = Type.getInternalName(type);
+            this.className = Type.getInternalName(ValidatorGenerator.class).replace("ValidatorGenerator",
+                "Generated$" + type.getSimpleName());
+            this.constants = constants;
+            this.cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+                @Override
+                protected String getCommonSuperClass(String type1, String type2) {
+                    // Only reached for locals that are dead after the merge; avoids loading model classes here
+                    return OBJECT;
+                }
+            };
+        }
+
+        byte[] emit(List<FieldPlan> fields, List<Member> readers) {
+            cw.visit(V17, ACC_FINAL | ACC_SUPER, className, null, OBJECT,
+                new String[] {Type.getInternalName(GeneratedValidator.class)});
+
+            MethodVisitor init = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+            init.visitCode();
+            init.visitVarInsn(ALOAD, 0);
+            init.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+            init.visitInsn(RETURN);
+            init.visitMaxs(0, 0);
+            init.visitEnd();
+
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "validate", VALIDATE_DESC, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, owner);
+            mv.visitVarInsn(ASTORE, TARGET);
+            for (int i = 0; i < fields.size(); i++) {
+                FieldPlan field = fields.get(i);
+                Member reader = readers.get(i);
+                Class<?> valueType = readType(reader);
+                emitRead(mv, reader);
+                mv.visitVarInsn(Type.getType(valueType).getOpcode(ISTORE), VALUE);
+                if (field.getKind() == FieldPlan.Kind.VALUE) {
+                    for (CompiledRule rule : field.getRules()) {
+                        emitRule(mv, field, rule, valueType);
+                    }
+                } else {
+                    mv.visitVarInsn(ALOAD, NESTED_ARG);
+                    mv.visitVarInsn(ALOAD, VALUE);
+                    emitConstant(mv, field, FieldPlan.class);
+                    mv.visitVarInsn(ALOAD, CTX);
+                    mv.visitMethodInsn(INVOKEINTERFACE, NESTED, "validate", Type.getMethodDescriptor(Type.VOID_TYPE,
+                        Type.getType(Object.class), Type.getType(FieldPlan.class), Type.getType(ValidationContext.class)),
+                        true);
+                    Label proceed = new Label();
+                    mv.visitVarInsn(ALOAD, CTX);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, CONTEXT, "isStopped", "()Z", false);
+                    mv.visitJumpInsn(IFEQ, proceed);
+                    mv.visitInsn(RETURN);
+                    mv.visitLabel(proceed);
+                }
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+
+            emitStaticInit();
+            cw.visitEnd();
+            return cw.toByteArray();
+        }
+
+        private void emitRead(MethodVisitor mv, Member reader) {
+            mv.visitVarInsn(ALOAD, TARGET);
+            if (reader instanceof Method) {
+                Method getter = (Method) reader;
+                mv.visitMethodInsn(INVOKEVIRTUAL, owner, getter.getName(), Type.getMethodDescriptor(getter), false);
+            } else {
+                Field field = (Field) reader;
+                mv.visitFieldInsn(GETFIELD, owner, field.getName(), Type.getDescriptor(field.getType()));
+            }
+        }
+
+        private void emitRule(MethodVisitor mv, FieldPlan field, CompiledRule rule, Class<?> valueType) {
+            Label valid = new Label();
+            Class<?> validator = rule.getValidator().getClass();
+            if (validator == RequiredValidator.class && valueType.isPrimitive()) {
+                // A primitive is never null
+                return;
+            }
+            emitInlineCheck(mv, rule, validator, valueType, valid);
+
+            // Slow path: the rule's own check decides, and reports the violation if there is one
+            mv.visitVarInsn(ALOAD, CTX);
+            mv.visitLdcInsn(field.getName());
+            emitConstant(mv, rule, CompiledRule.class);
+            String valueDesc = emitCheckedValue(mv, valueType);
+            mv.visitMethodInsn(INVOKEVIRTUAL, CONTEXT, "checkField",
+                "(Ljava/lang/String;L" + COMPILED_RULE + ";" + valueDesc + ")Z", false);
+            mv.visitJumpInsn(IFEQ, valid);
+            mv.visitInsn(RETURN);
+            mv.visitLabel(valid);
+        }
+
+        // Jumps to valid when the value certainly passes; falls through to the slow path otherwise
+        private void emitInlineCheck(MethodVisitor mv, CompiledRule rule, Class<?> validator, Class<?> valueType,
+                                     Label valid) {
+            if (validator == RequiredValidator.class) {
+                mv.visitVarInsn(ALOAD, VALUE);
+                mv.visitJumpInsn(IFNONNULL, valid);
+            } else if ((validator == MinLengthValidator.class || validator == MaxLengthValidator.class)
+                    && valueType == String.class && !Boolean.TRUE.equals(rule.getParams().get("codePoints"))) {
+                mv.visitVarInsn(ALOAD, VALUE);
+                mv.visitJumpInsn(IFNULL, valid);
+                mv.visitVarInsn(ALOAD, VALUE);
+                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "length", "()I", false);
+                mv.visitLdcInsn(intParam(rule));
+                mv.visitJumpInsn(validator == MinLengthValidator.class ? IF_ICMPGE : IF_ICMPLE, valid);
+            }
+        }
+
+        // Pushes the value as checkField takes it and returns its descriptor: int, long and double as they
+        // are, other primitives boxed to their own wrapper type
+        private String emitCheckedValue(MethodVisitor mv, Class<?> valueType) {
+            Type value = Type.getType(valueType);
+            mv.visitVarInsn(value.getOpcode(ILOAD), VALUE);
+            if (valueType == int.class || valueType == long.class || valueType == double.class) {
+                return value.getDescriptor();
+            }
+            if (valueType.isPrimitive()) {
+                Class<?> box = MethodType.methodType(valueType).wrap().returnType();
+                mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(box), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(box), value), false);
+            }
+            return "Ljava/lang/Object;";
+        }
+
+        // Constants are passed as class data and kept in static finals, which the JIT folds
+        private void emitConstant(MethodVisitor mv, Object constant, Class<?> fieldType) {
+            int index = 0;
+            while (index < constants.size() && constants.get(index) != constant) {
+                index++;
+            }
+            if (index == constants.size()) {
+                index = constants.size();
+                constants.add(constant);
+                cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "c" + index, Type.getDescriptor(fieldType), null, null)
+                    .visitEnd();
+            }
+            mv.visitFieldInsn(GETSTATIC, className, "c" + index, Type.getDescriptor(fieldType));
+        }
+
+        private void emitStaticInit() {
+            MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+            mv.visitCode();
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodHandles", "lookup",
+                "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+            mv.visitLdcInsn("_");
+            mv.visitLdcInsn(Type.getType(Object[].class));
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodHandles", "classData",
+                "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;", false);
+            mv.visitTypeInsn(CHECKCAST, "[Ljava/lang/Object;");
+            mv.visitVarInsn(ASTORE, 0);
+            for (int i = 0; i < constants.size(); i++) {
+                Class<?> fieldType = constants.get(i) instanceof FieldPlan ? FieldPlan.class : CompiledRule.class;
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(fieldType));
+                mv.visitFieldInsn(PUTSTATIC, className, "c" + i, Type.getDescriptor(fieldType));
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+    }
+
+    private static int intParam(CompiledRule rule) {
+        return ((Number) rule.getParams().get("value")).intValue();
+    }
+}
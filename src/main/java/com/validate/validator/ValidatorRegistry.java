@@ -5,48 +5,192 @@ import jakarta.validation.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.HashSet;
 import java.util.Set;
 
+// Readers never lock: every registration publishes a new immutable snapshot, so registering while other
+// threads compile plans is safe. Plans compiled before a registration keep the validators they bound.
+//
+// freeze() ends registration and numbers the types densely, in name order, so callers can keep
+// per-rule tables in arrays indexed by getId(type) instead of maps keyed by name.
+//
+// shared() runs the ServiceLoader scan once per process. child() layers registrations over another
+// registry without copying it: a child's own validators win, every other type comes from the parent.
 public class ValidatorRegistry {
     private static final Logger logger = LoggerFactory.getLogger(ValidatorRegistry.class);
-    private final Map<String, FieldValidator> validators = new HashMap<>();
+    private final ValidatorRegistry parent;
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), null);
 
     public ValidatorRegistry() {
+        this.parent = null;
         // Load additional validators using SPI
         loadValidatorsFromSPI();
     }
 
+    private ValidatorRegistry(ValidatorRegistry parent) {
+        this.parent = parent;
+    }
+
+    // The SPI validators, loaded on first use and frozen; register custom validators on a child
+    public static ValidatorRegistry shared() {
+        return Shared.INSTANCE;
+    }
+
+    public ValidatorRegistry child() {
+        return new ValidatorRegistry(this);
+    }
+
+    public ValidatorRegistry getParent() {
+        return parent;
+    }
+
     private void loadValidatorsFromSPI() {
         // Load any additional validators using ServiceLoader
         ServiceLoader<FieldValidator> loader = ServiceLoader.load(FieldValidator.class);
         for (FieldValidator validator : loader) {
             // Only register if not already registered
-            if (!validators.containsKey(validator.getType())) {
+            if (!snapshot.validators.containsKey(validator.getType())) {
                 registerValidator(validator);
                 logger.info("Loaded additional validator via SPI: {}", validator.getType());
             }
         }
     }
 
-    public void registerValidator(FieldValidator validator) {
+    public synchronized void registerValidator(FieldValidator validator) {
+        Snapshot current = snapshot;
+        if (current.isFrozen()) {
+            throw new IllegalStateException("Registry is frozen, cannot register: " + validator.getType());
+        }
+        Map<String, FieldValidator> validators = new HashMap<>(current.validators);
         validators.put(validator.getType(), validator);
+        snapshot = new Snapshot(Map.copyOf(validators), null);
         logger.debug("Registered validator: {}", validator.getType());
     }
 
     public FieldValidator getValidator(String type) {
-        FieldValidator validator = validators.get(type);
+        if (type == null) {
+            throw unknownType(null);
+        }
+        Snapshot current = snapshot;
+        FieldValidator validator = current.validators.get(type);
+        if (validator == null && parent != null && !current.isFrozen()) {
+            return parent.getValidator(type);
+        }
         if (validator == null) {
-            throw new ValidationException("Unknown validation type: " + type);
+            throw unknownType(type);
         }
         return validator;
     }
 
+    // Idempotent; later registrations fail with IllegalStateException. A child takes its parent's
+    // validators as they are at this point, so freeze it only once the parent is complete.
+    public synchronized void freeze() {
+        Snapshot current = snapshot;
+        if (current.isFrozen()) {
+            return;
+        }
+        Map<String, FieldValidator> validators = current.validators;
+        if (parent != null) {
+            Map<String, FieldValidator> merged = new HashMap<>();
+            for (String type : parent.getRegisteredValidatorTypes()) {
+                merged.put(type, parent.getValidator(type));
+            }
+            merged.putAll(validators);
+            validators = Map.copyOf(merged);
+        }
+        String[] types = validators.keySet().toArray(new String[0]);
+        Arrays.sort(types);
+        snapshot = new Snapshot(validators, types);
+    }
+
+    public boolean isFrozen() {
+        return snapshot.isFrozen();
+    }
+
+    // Ids run from 0 to getValidatorCount() - 1 and are only assigned by freeze()
+    public int getId(String type) {
+        Snapshot current = frozen();
+        // The snapshot maps are immutable copies, which throw on a null key
+        Integer id = type == null ? null : current.ids.get(type);
+        if (id == null) {
+            throw unknownType(type);
+        }
+        return id;
+    }
+
+    public FieldValidator getValidator(int id) {
+        Snapshot current = frozen();
+        if (id < 0 || id >= current.byId.length) {
+            throw new ValidationException("Unknown validation type id: " + id);
+        }
+        return current.byId[id];
+    }
+
+    private static ValidationException unknownType(String type) {
+        return new ValidationException("Unknown validation type: " + type);
+    }
+
+    public int getValidatorCount() {
+        return getRegisteredValidatorTypes().size();
+    }
+
+    private Snapshot frozen() {
+        Snapshot current = snapshot;
+        if (!current.isFrozen()) {
+            throw new IllegalStateException("Validator ids are assigned by freeze()");
+        }
+        return current;
+    }
+
     // For testing/debugging
     public Set<String> getRegisteredValidatorTypes() {
-        return new HashSet<>(validators.keySet());
+        Snapshot current = snapshot;
+        Set<String> types = new HashSet<>(current.validators.keySet());
+        if (parent != null && !current.isFrozen()) {
+            types.addAll(parent.getRegisteredValidatorTypes());
+        }
+        return types;
+    }
+
+    private static final class Shared {
+        static final ValidatorRegistry INSTANCE = createShared();
+
+        private static ValidatorRegistry createShared() {
+            ValidatorRegistry registry = new ValidatorRegistry();
+            registry.freeze();
+            return registry;
+        }
+    }
+
+    private static final class Snapshot {
+        final Map<String, FieldValidator> validators;
+        // Only set once frozen
+        final Map<String, Integer> ids;
+        final FieldValidator[] byId;
+
+        Snapshot(Map<String, FieldValidator> validators, String[] orderedTypes) {
+            this.validators = validators;
+            if (orderedTypes == null) {
+                this.ids = null;
+                this.byId = null;
+                return;
+            }
+            Map<String, Integer> ids = new HashMap<>();
+            FieldValidator[] byId = new FieldValidator[orderedTypes.length];
+            for (int i = 0; i < orderedTypes.length; i++) {
+                ids.put(orderedTypes[i], i);
+                byId[i] = validators.get(orderedTypes[i]);
+            }
+            this.ids = Map.copyOf(ids);
+            this.byId = byId;
+        }
+
+        boolean isFrozen() {
+            return byId != null;
+        }
     }
-} 
\ No newline at end of file
+}
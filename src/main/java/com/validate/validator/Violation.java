@@ -0,0 +1,31 @@
+package com.validate.validator;
+
+public final class Violation {
+    private final String path;
+    private final String ruleType;
+    private final String message;
+
+    public Violation(String path, String ruleType, String message) {
+        this.path = path;
+        this.ruleType = ruleType;
+        this.message = message;
+    }
+
+    // Field path from the validated root, e.g. items[3].quantity; empty for the root itself
+    public String getPath() {
+        return path;
+    }
+
+    public String getRuleType() {
+        return ruleType;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return path + " [" + ruleType + "]: " + message;
+    }
+}
@@ -0,0 +1,130 @@
+package com.validate.validator.access;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+public final class FieldAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType INT_GETTER_TYPE = MethodType.methodType(int.class, Object.class);
+    private static final MethodType LONG_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+    private static final MethodType DOUBLE_GETTER_TYPE = MethodType.methodType(double.class, Object.class);
+
+    private final String name;
+    private final Class<?> declaringClass;
+    private final Class<?> type;
+    private final MethodHandle getter;
+    // Unboxed reads of int, long and double fields; null for fields of other types
+    private final MethodHandle intGetter;
+    private final MethodHandle longGetter;
+    private final MethodHandle doubleGetter;
+    private final IllegalAccessException failure;
+
+    FieldAccessor(Field field) {
+        this.name = field.getName();
+        this.declaringClass = field.getDeclaringClass();
+        this.type = field.getType();
+        MethodHandle handle = null;
+        IllegalAccessException error = null;
+        try {
+            handle = resolveGetter(field);
+        } catch (IllegalAccessException e) {
+            error = e;
+        }
+        this.getter = handle == null ? null : handle.asType(GETTER_TYPE);
+        this.intGetter = typed(handle, int.class, INT_GETTER_TYPE);
+        this.longGetter = typed(handle, long.class, LONG_GETTER_TYPE);
+        this.doubleGetter = typed(handle, double.class, DOUBLE_GETTER_TYPE);
+        this.failure = error;
+    }
+
+    private MethodHandle typed(MethodHandle handle, Class<?> fieldType, MethodType getterType) {
+        return handle != null && type == fieldType ? handle.asType(getterType) : null;
+    }
+
+    private static MethodHandle resolveGetter(Field field) throws IllegalAccessException {
+        Class<?> owner = field.getDeclaringClass();
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            // The owner's package is not open to us; fall back to a suppressed access check
+            try {
+                field.setAccessible(true);
+            } catch (RuntimeException inaccessible) {
+                IllegalAccessException error = new IllegalAccessException(
+                    "Cannot access field " + owner.getName() + "." + field.getName());
+                error.initCause(inaccessible);
+                throw error;
+            }
+            return MethodHandles.lookup().unreflectGetter(field);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to read field: " + name, t);
+        }
+    }
+
+    public int getInt(Object target) {
+        if (intGetter == null) {
+            throw new IllegalStateException("Field is not an int: " + name);
+        }
+        try {
+            return (int) intGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to read field: " + name, t);
+        }
+    }
+
+    public long getLong(Object target) {
+        if (longGetter == null) {
+            throw new IllegalStateException("Field is not a long: " + name);
+        }
+        try {
+            return (long) longGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to read field: " + name, t);
+        }
+    }
+
+    public double getDouble(Object target) {
+        if (doubleGetter == null) {
+            throw new IllegalStateException("Field is not a double: " + name);
+        }
+        try {
+            return (double) doubleGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to read field: " + name, t);
+        }
+    }
+
+    void checkAccessible() throws IllegalAccessException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
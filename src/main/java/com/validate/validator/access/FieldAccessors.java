@@ -0,0 +1,35 @@
+package com.validate.validator.access;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+// Process-wide cache of field getters. Each class is introspected once; the entry is released with the class.
+public final class FieldAccessors {
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            Map<String, FieldAccessor> accessors = new HashMap<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    accessors.put(field.getName(), new FieldAccessor(field));
+                }
+            }
+            return Map.copyOf(accessors);
+        }
+    };
+
+    private FieldAccessors() {
+    }
+
+    public static FieldAccessor forField(Class<?> type, String fieldName)
+            throws NoSuchFieldException, IllegalAccessException {
+        FieldAccessor accessor = ACCESSORS.get(type).get(fieldName);
+        if (accessor == null) {
+            throw new NoSuchFieldException(fieldName);
+        }
+        accessor.checkAccessible();
+        return accessor;
+    }
+}
@@ -0,0 +1,96 @@
+package com.validate.validator.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Background thread that calls ValidationConfig.reload() when rule files change, either woken by a
+// WatchService on their directories or on a fixed polling interval. Parsing and compiling happen
+// here, never on the request path.
+final class ConfigReloader implements Runnable, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ConfigReloader.class);
+
+    private final ValidationConfig config;
+    private final WatchService watchService;
+    private final long intervalMillis;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    private ConfigReloader(ValidationConfig config, WatchService watchService, long intervalMillis) {
+        this.config = config;
+        this.watchService = watchService;
+        this.intervalMillis = intervalMillis;
+        this.thread = new Thread(this, "validation-config-reload");
+        this.thread.setDaemon(true);
+    }
+
+    static ConfigReloader watching(ValidationConfig config, Collection<Path> files, long intervalMillis)
+            throws IOException {
+        Path first = files.iterator().next();
+        WatchService watchService = first.getFileSystem().newWatchService();
+        Set<Path> directories = new HashSet<>();
+        for (Path file : files) {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directories.add(directory)) {
+                directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+        return start(new ConfigReloader(config, watchService, intervalMillis));
+    }
+
+    static ConfigReloader polling(ValidationConfig config, long intervalMillis) {
+        return start(new ConfigReloader(config, null, intervalMillis));
+    }
+
+    private static ConfigReloader start(ConfigReloader reloader) {
+        reloader.thread.start();
+        return reloader;
+    }
+
+    @Override
+    public void run() {
+        while (!closed) {
+            try {
+                if (watchService != null) {
+                    // The timeout doubles as a poll, in case the file system drops events
+                    WatchKey key = watchService.poll(intervalMillis, TimeUnit.MILLISECONDS);
+                    if (key != null) {
+                        key.pollEvents();
+                        key.reset();
+                    }
+                } else {
+                    Thread.sleep(intervalMillis);
+                }
+                if (!closed) {
+                    config.reload();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Rule reload failed, keeping the current configuration", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        thread.interrupt();
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+}
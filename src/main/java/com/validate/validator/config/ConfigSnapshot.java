@@ -0,0 +1,116 @@
+package com.validate.validator.config;
+
+import com.validate.validator.plan.PlanCompiler;
+import com.validate.validator.plan.ValidationPlan;
+import jakarta.validation.ValidationException;
+
+import java.util.Map;
+
+// An immutable view of every loaded rule file. A reload builds a new snapshot and publishes it in
+// one step, so a caller that holds a snapshot sees one consistent version for the whole request.
+public final class ConfigSnapshot {
+    private final Map<String, RuleFile> files;
+    private final PlanCompiler planCompiler;
+    private final long generation;
+    private volatile RouteIndex routes;
+    // Set instead of routes when the rules declare conflicting routes, so lookups fail without rebuilding
+    private volatile ValidationException routeFailure;
+
+    ConfigSnapshot(Map<String, RuleFile> files, PlanCompiler planCompiler, long generation) {
+        this.files = Map.copyOf(files);
+        this.planCompiler = planCompiler;
+        this.generation = generation;
+    }
+
+    // Incremented by every published reload
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Map<String, Object> getRequestValidation(String ruleName, String endpoint) {
+        RuleFile file = files.get(ruleName);
+        return file == null ? null : file.getEndpoint(RuleFile.REQUESTS, endpoint);
+    }
+
+    public Map<String, Object> getResponseValidation(String ruleName, String endpoint) {
+        RuleFile file = files.get(ruleName);
+        return file == null ? null : file.getEndpoint(RuleFile.RESPONSES, endpoint);
+    }
+
+    public ValidationPlan getRequestPlan(String ruleName, String endpoint) {
+        RuleFile file = files.get(ruleName);
+        return file == null ? null : file.getPlan(RuleFile.REQUESTS, endpoint, planCompiler);
+    }
+
+    public ValidationPlan getResponsePlan(String ruleName, String endpoint) {
+        RuleFile file = files.get(ruleName);
+        return file == null ? null : file.getPlan(RuleFile.RESPONSES, endpoint, planCompiler);
+    }
+
+    // Resolves an HTTP method and path, e.g. GET /api/orders/42, to the endpoint declaring it, or null.
+    // The index is built on first use; with lazy loading that reads every rule file. Conflicting
+    // routes fail that first use and every later one, until a reload fixes them.
+    public Route route(String method, String path) {
+        return routes().find(method, path);
+    }
+
+    // True once route() has been called, whether or not the index could be built
+    boolean isRoutingUsed() {
+        return routes != null || routeFailure != null;
+    }
+
+    RouteIndex routes() {
+        RouteIndex index = routes;
+        if (index == null) {
+            ValidationException failure = routeFailure;
+            if (failure != null) {
+                throw failure;
+            }
+            synchronized (this) {
+                index = routes;
+                if (index == null) {
+                    if (routeFailure != null) {
+                        throw routeFailure;
+                    }
+                    try {
+                        index = buildRoutes();
+                    } catch (ValidationException e) {
+                        routeFailure = e;
+                        throw e;
+                    }
+                    routes = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private RouteIndex buildRoutes() {
+        RouteIndex index = new RouteIndex();
+        for (RuleFile file : files.values()) {
+            for (String endpoint : file.getEndpointNames(RuleFile.REQUESTS)) {
+                Map<String, Object> definition = file.getEndpoint(RuleFile.REQUESTS, endpoint);
+                Object path = definition == null ? null : definition.get("path");
+                if (path != null) {
+                    index.add(this, file.getName(), (String) definition.get("method"), path.toString(), endpoint, false);
+                }
+            }
+            for (String endpoint : file.getEndpointNames(RuleFile.RESPONSES)) {
+                // A response without its own path belongs to the request of the same name
+                Map<String, Object> definition = file.getEndpoint(RuleFile.RESPONSES, endpoint);
+                if (definition == null || definition.get("path") == null) {
+                    definition = file.getEndpoint(RuleFile.REQUESTS, endpoint);
+                }
+                Object path = definition == null ? null : definition.get("path");
+                if (path != null) {
+                    index.add(this, file.getName(), (String) definition.get("method"), path.toString(), endpoint, true);
+                }
+            }
+        }
+        return index;
+    }
+
+    Map<String, RuleFile> getFiles() {
+        return files;
+    }
+}
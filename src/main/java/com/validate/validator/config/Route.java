@@ -0,0 +1,74 @@
+package com.validate.validator.config;
+
+import com.validate.validator.plan.ValidationPlan;
+
+// An endpoint resolved from an HTTP method and path. The request and response endpoints are the
+// entries under requests/responses that declare this method and path, or share the request's name.
+// Plans are looked up once and then kept on the route.
+public final class Route {
+    private final ConfigSnapshot snapshot;
+    private final String ruleName;
+    private final String method;
+    private final String path;
+    private final String requestEndpoint;
+    private final String responseEndpoint;
+    private volatile ValidationPlan requestPlan;
+    private volatile ValidationPlan responsePlan;
+
+    Route(ConfigSnapshot snapshot, String ruleName, String method, String path,
+          String requestEndpoint, String responseEndpoint) {
+        this.snapshot = snapshot;
+        this.ruleName = ruleName;
+        this.method = method;
+        this.path = path;
+        this.requestEndpoint = requestEndpoint;
+        this.responseEndpoint = responseEndpoint;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    // "*" when the endpoint does not declare a method
+    public String getMethod() {
+        return method;
+    }
+
+    // The declared path, possibly a template such as /api/orders/{id}
+    public String getPath() {
+        return path;
+    }
+
+    // Null when only a response is declared for this route
+    public String getRequestEndpoint() {
+        return requestEndpoint;
+    }
+
+    // Null when only a request is declared for this route
+    public String getResponseEndpoint() {
+        return responseEndpoint;
+    }
+
+    public ValidationPlan getRequestPlan() {
+        ValidationPlan plan = requestPlan;
+        if (plan == null && requestEndpoint != null) {
+            plan = snapshot.getRequestPlan(ruleName, requestEndpoint);
+            requestPlan = plan;
+        }
+        return plan;
+    }
+
+    public ValidationPlan getResponsePlan() {
+        ValidationPlan plan = responsePlan;
+        if (plan == null && responseEndpoint != null) {
+            plan = snapshot.getResponsePlan(ruleName, responseEndpoint);
+            responsePlan = plan;
+        }
+        return plan;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path + " -> " + ruleName + "/" + (requestEndpoint != null ? requestEndpoint : responseEndpoint);
+    }
+}
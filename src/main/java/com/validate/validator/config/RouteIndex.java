@@ -0,0 +1,135 @@
+package com.validate.validator.config;
+
+import jakarta.validation.ValidationException;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Resolves (method, path) to a Route. Paths without variables sit in a hash map per method, so they
+// cost two probes; templates like /api/orders/{id} go in a segment trie per method, where literal
+// segments win over variables. Endpoints without a method are kept under "*" and match any method.
+// A variable must span a whole segment. Built once per snapshot and read-only afterwards.
+final class RouteIndex {
+    static final String ANY_METHOD = "*";
+
+    private final Map<String, Map<String, Route>> exact = new HashMap<>();
+    private final Map<String, Node> templates = new HashMap<>();
+
+    // A null method is an unknown one: only endpoints without a method match it
+    Route find(String method, String path) {
+        String normalized = normalize(path);
+        if (method == null) {
+            return findIn(ANY_METHOD, normalized);
+        }
+        Route route = findIn(method, normalized);
+        if (route == null) {
+            String upper = method.toUpperCase(Locale.ROOT);
+            if (!upper.equals(method)) {
+                route = findIn(upper, normalized);
+            }
+        }
+        return route != null ? route : findIn(ANY_METHOD, normalized);
+    }
+
+    private Route findIn(String method, String path) {
+        Map<String, Route> routes = exact.get(method);
+        Route route = routes == null ? null : routes.get(path);
+        if (route == null) {
+            Node root = templates.get(method);
+            route = root == null ? null : root.match(path, 1);
+        }
+        return route;
+    }
+
+    // Registers a request endpoint, or attaches a response endpoint to the route with the same
+    // method and path
+    void add(ConfigSnapshot snapshot, String ruleName, String method, String path, String endpoint, boolean response) {
+        String key = method == null ? ANY_METHOD : method.toUpperCase(Locale.ROOT);
+        String normalized = normalize(path);
+        if (normalized.indexOf('{') < 0) {
+            Map<String, Route> routes = exact.computeIfAbsent(key, k -> new HashMap<>());
+            routes.put(normalized, merge(routes.get(normalized), snapshot, ruleName, key, path, endpoint, response));
+            return;
+        }
+        Node node = templates.computeIfAbsent(key, k -> new Node());
+        int start = 1;
+        while (start <= normalized.length() && normalized.length() > 1) {
+            int end = normalized.indexOf('/', start);
+            if (end < 0) {
+                end = normalized.length();
+            }
+            String segment = normalized.substring(start, end);
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                if (node.variable == null) {
+                    node.variable = new Node();
+                }
+                node = node.variable;
+            } else if (segment.indexOf('{') >= 0) {
+                throw new ValidationException("Path variables must span a whole segment: " + path);
+            } else {
+                node = node.literals.computeIfAbsent(segment, s -> new Node());
+            }
+            start = end + 1;
+        }
+        node.route = merge(node.route, snapshot, ruleName, key, path, endpoint, response);
+    }
+
+    private static Route merge(Route existing, ConfigSnapshot snapshot, String ruleName, String method, String path,
+                               String endpoint, boolean response) {
+        String request = response ? null : endpoint;
+        String responseEndpoint = response ? endpoint : null;
+        if (existing != null) {
+            String taken = response ? existing.getResponseEndpoint() : existing.getRequestEndpoint();
+            if (!existing.getRuleName().equals(ruleName) || (taken != null && !taken.equals(endpoint))) {
+                throw new ValidationException("Duplicate route " + method + " " + path + ": "
+                    + existing + " and " + ruleName + "/" + endpoint);
+            }
+            request = response ? existing.getRequestEndpoint() : endpoint;
+            responseEndpoint = response ? endpoint : existing.getResponseEndpoint();
+        }
+        return new Route(snapshot, ruleName, method, path, request, responseEndpoint);
+    }
+
+    // Drops the query string and a trailing slash; allocates only when there is something to fix
+    private static String normalize(String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            path = "/" + path;
+        }
+        int end = path.indexOf('?');
+        if (end < 0) {
+            end = path.length();
+        }
+        if (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        if (end == 0) {
+            return "/";
+        }
+        return end == path.length() ? path : path.substring(0, end);
+    }
+
+    private static final class Node {
+        final Map<String, Node> literals = new HashMap<>();
+        Node variable;
+        Route route;
+
+        Route match(String path, int start) {
+            if (start >= path.length()) {
+                return route;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            Node literal = literals.get(path.substring(start, end));
+            if (literal != null) {
+                Route matched = literal.match(path, end + 1);
+                if (matched != null) {
+                    return matched;
+                }
+            }
+            return variable == null || end == start ? null : variable.match(path, end + 1);
+        }
+    }
+}
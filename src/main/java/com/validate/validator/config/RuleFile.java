@@ -0,0 +1,188 @@
+package com.validate.validator.config;
+
+import com.validate.validator.plan.PlanCompiler;
+import com.validate.validator.plan.ValidationPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// One rule file and the plans compiled from it. The file is read on first use (or straight away when
+// loading eagerly); in lazy mode each endpoint is parsed from its own slice of the file, or decoded
+// from the binary snapshot when that is current, on first use.
+// Plans are compiled on first use or by precompile(). Every step runs once, however many threads ask.
+// The raw maps are shared with every reader and must be treated as read-only.
+@SuppressWarnings("unchecked")
+final class RuleFile {
+    private static final Logger logger = LoggerFactory.getLogger(RuleFile.class);
+    static final String REQUESTS = "requests";
+    static final String RESPONSES = "responses";
+
+    private final RuleSource source;
+    private final boolean lazy;
+    private final RuleSnapshot snapshot;
+    private volatile Content content;
+    private final Map<String, Map<String, Object>> requestEndpoints = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> responseEndpoints = new ConcurrentHashMap<>();
+    private final Map<String, ValidationPlan> requestPlans = new ConcurrentHashMap<>();
+    private final Map<String, ValidationPlan> responsePlans = new ConcurrentHashMap<>();
+
+    RuleFile(RuleSource source, boolean lazy, RuleSnapshot snapshot) {
+        this.source = source;
+        this.lazy = lazy;
+        this.snapshot = snapshot;
+    }
+
+    String getName() {
+        return source.getName();
+    }
+
+    boolean isLoaded() {
+        return content != null;
+    }
+
+    // Null until the file has been read
+    RuleSource.Stamp getStamp() {
+        Content current = content;
+        return current == null ? null : current.stamp;
+    }
+
+    void load() {
+        content();
+    }
+
+    private Content content() {
+        Content current = content;
+        if (current == null) {
+            synchronized (this) {
+                current = content;
+                if (current == null) {
+                    current = read();
+                    content = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Content read() {
+        try {
+            // Stamp before reading, so a write that races with the read is picked up by the next reload
+            RuleSource.Stamp stamp = source.stamp();
+            byte[] bytes;
+            try (InputStream inputStream = source.open()) {
+                bytes = inputStream.readAllBytes();
+            }
+            Map<String, Map<String, Object>> sections = snapshot == null
+                ? null
+                : snapshot.sections(getName(), RuleSnapshot.checksum(bytes));
+            if (sections != null) {
+                logger.info("Validation configuration loaded from snapshot");
+                return new Content(stamp, lazy ? sections : decodeAll(sections));
+            }
+            String text = new String(bytes, StandardCharsets.UTF_8);
+            sections = lazy ? RuleIndexer.index(text) : null;
+            if (sections == null) {
+                sections = sectionsOf(new Yaml().load(text));
+            }
+            logger.info("Validation configuration loaded successfully");
+            return new Content(stamp, sections);
+        } catch (Exception e) {
+            logger.error("Failed to load validation configuration", e);
+            throw new RuntimeException("Failed to load validation configuration", e);
+        }
+    }
+
+    private static Map<String, Map<String, Object>> sectionsOf(Map<String, Object> config) {
+        Map<String, Map<String, Object>> sections = new HashMap<>();
+        if (config != null) {
+            for (String section : List.of(REQUESTS, RESPONSES)) {
+                Object endpoints = config.get(section);
+                if (endpoints instanceof Map) {
+                    sections.put(section, (Map<String, Object>) endpoints);
+                }
+            }
+        }
+        return sections;
+    }
+
+    private static Map<String, Map<String, Object>> decodeAll(Map<String, Map<String, Object>> encoded) {
+        Map<String, Map<String, Object>> sections = new HashMap<>();
+        for (Map.Entry<String, Map<String, Object>> section : encoded.entrySet()) {
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> endpoint : section.getValue().entrySet()) {
+                endpoints.put(endpoint.getKey(), RuleSnapshot.decode((ByteBuffer) endpoint.getValue()));
+            }
+            sections.put(section.getKey(), endpoints);
+        }
+        return sections;
+    }
+
+    Map<String, Object> getEndpoint(String section, String endpoint) {
+        Object entry = content().sections.getOrDefault(section, Collections.emptyMap()).get(endpoint);
+        if (!(entry instanceof String) && !(entry instanceof ByteBuffer)) {
+            return (Map<String, Object>) entry;
+        }
+        // A YAML slice of the file or an encoded snapshot entry, not parsed yet
+        Map<String, Map<String, Object>> parsed = REQUESTS.equals(section) ? requestEndpoints : responseEndpoints;
+        return parsed.computeIfAbsent(endpoint, e -> (Map<String, Object>) (entry instanceof String
+            ? new Yaml().load((String) entry)
+            : RuleSnapshot.decode((ByteBuffer) entry)));
+    }
+
+    Set<String> getEndpointNames(String section) {
+        return content().sections.getOrDefault(section, Collections.emptyMap()).keySet();
+    }
+
+    // Null when the endpoint does not exist or declares no validations
+    ValidationPlan getPlan(String section, String endpoint, PlanCompiler compiler) {
+        Map<String, ValidationPlan> plans = REQUESTS.equals(section) ? requestPlans : responsePlans;
+        ValidationPlan plan = plans.get(endpoint);
+        if (plan != null) {
+            return plan;
+        }
+        return plans.computeIfAbsent(endpoint, e -> {
+            Map<String, Object> definition = getEndpoint(section, e);
+            Object validations = definition == null ? null : definition.get("validations");
+            return validations instanceof List
+                ? compiler.compile(source.getName() + "/" + section + "/" + e, (List<Map<String, Object>>) validations)
+                : null;
+        });
+    }
+
+    // Compiles plans up front so a reload fails before it is published, not on the request path.
+    // With a previous version of the file only the endpoints it had compiled are compiled again, which
+    // keeps a lazily loaded file from compiling endpoints nobody uses.
+    void precompile(PlanCompiler compiler, RuleFile previous) {
+        for (String section : List.of(REQUESTS, RESPONSES)) {
+            Iterable<String> endpoints = previous != null
+                ? (REQUESTS.equals(section) ? previous.requestPlans : previous.responsePlans).keySet()
+                : content().sections.getOrDefault(section, Collections.emptyMap()).keySet();
+            for (String endpoint : endpoints) {
+                getPlan(section, endpoint, compiler);
+            }
+        }
+    }
+
+    private static final class Content {
+        final RuleSource.Stamp stamp;
+        // Section -> endpoint -> parsed map, or when loaded lazily the endpoint's YAML text or
+        // encoded snapshot slice
+        final Map<String, Map<String, Object>> sections;
+
+        Content(RuleSource.Stamp stamp, Map<String, Map<String, Object>> sections) {
+            this.stamp = stamp;
+            this.sections = sections;
+        }
+    }
+}
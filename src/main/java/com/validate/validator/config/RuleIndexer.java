@@ -0,0 +1,132 @@
+package com.validate.validator.config;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.error.Mark;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// Splits a rule file into the YAML text of each endpoint under requests/responses by scanning parser
+// events, without constructing any maps. Each endpoint is parsed from its own slice the first time it
+// is asked for. Returns null when the file uses anchors or aliases, since a slice could then refer to
+// a node outside itself, or when slicing is otherwise unsafe; such files are loaded whole.
+final class RuleIndexer {
+
+    private RuleIndexer() {
+    }
+
+    static Map<String, Map<String, Object>> index(String text) {
+        if (text.codePointCount(0, text.length()) != text.length()) {
+            // Marks count code points, so slicing by them only lines up without supplementary characters
+            return null;
+        }
+        Map<String, Map<String, Object>> sections = new HashMap<>();
+        Iterator<Event> events = new Yaml().parse(new StringReader(text)).iterator();
+        Event event = skipTo(events, Event.ID.MappingStart);
+        if (event == null) {
+            return sections;
+        }
+        while (true) {
+            event = events.next();
+            if (event.is(Event.ID.MappingEnd)) {
+                return sections;
+            }
+            if (isAnchored(event)) {
+                return null;
+            }
+            String key = event.is(Event.ID.Scalar) ? ((ScalarEvent) event).getValue() : null;
+            Event value = events.next();
+            if ((RuleFile.REQUESTS.equals(key) || RuleFile.RESPONSES.equals(key)) && value.is(Event.ID.MappingStart)) {
+                Map<String, Object> endpoints = indexEndpoints(text, events);
+                if (endpoints == null) {
+                    return null;
+                }
+                sections.put(key, endpoints);
+            } else if (RuleFile.REQUESTS.equals(key) || RuleFile.RESPONSES.equals(key)) {
+                // Not a mapping, so the whole file decides what the section holds
+                return null;
+            } else if (!skipNode(value, events)) {
+                return null;
+            }
+        }
+    }
+
+    private static Map<String, Object> indexEndpoints(String text, Iterator<Event> events) {
+        Map<String, Object> endpoints = new HashMap<>();
+        while (true) {
+            Event key = events.next();
+            if (key.is(Event.ID.MappingEnd)) {
+                return endpoints;
+            }
+            if (isAnchored(key) || !key.is(Event.ID.Scalar)) {
+                return null;
+            }
+            Event first = events.next();
+            Mark start = first.getStartMark();
+            Event last = first;
+            if (first.is(Event.ID.MappingStart) || first.is(Event.ID.SequenceStart)) {
+                last = skipContainer(events);
+            }
+            if (last == null || isAnchored(first)) {
+                return null;
+            }
+            // Pad the slice so its first line keeps the column the rest of the block is indented to
+            String slice = " ".repeat(start.getColumn())
+                + text.substring(start.getIndex(), last.getEndMark().getIndex());
+            // The last definition of a duplicated key wins, as when SnakeYAML loads the whole file
+            endpoints.put(((ScalarEvent) key).getValue(), slice);
+        }
+    }
+
+    private static boolean skipNode(Event first, Iterator<Event> events) {
+        if (isAnchored(first)) {
+            return false;
+        }
+        if (first.is(Event.ID.MappingStart) || first.is(Event.ID.SequenceStart)) {
+            return skipContainer(events) != null;
+        }
+        return true;
+    }
+
+    // Consumes up to the end of the container just opened and returns its end event, or null when
+    // an anchor or alias is found inside it
+    private static Event skipContainer(Iterator<Event> events) {
+        int depth = 1;
+        while (true) {
+            Event event = events.next();
+            if (isAnchored(event)) {
+                return null;
+            }
+            if (event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart)) {
+                depth++;
+            } else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) {
+                if (--depth == 0) {
+                    return event;
+                }
+            }
+        }
+    }
+
+    private static Event skipTo(Iterator<Event> events, Event.ID id) {
+        while (events.hasNext()) {
+            Event event = events.next();
+            if (event.is(id)) {
+                return event;
+            }
+            if (event.is(Event.ID.Scalar) || event.is(Event.ID.SequenceStart)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAnchored(Event event) {
+        return event.is(Event.ID.Alias) || (event instanceof NodeEvent && ((NodeEvent) event).getAnchor() != null);
+    }
+
+}
@@ -0,0 +1,292 @@
+package com.validate.validator.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+// Rule files pre-parsed into a compact binary form at build time (see RuleSnapshotCompiler), so
+// startup can skip YAML parsing. Each file is stored with the checksum of the YAML it came from and
+// is only used while that YAML is unchanged. Each endpoint is encoded separately, so lazy loading
+// can decode one endpoint without touching the others.
+//
+// Layout, big-endian: magic, file count, then per file its name, YAML checksum and sections; per
+// section its name and endpoints; per endpoint its name, byte length and encoded value. A CRC32C of
+// everything before it closes the snapshot.
+final class RuleSnapshot {
+    private static final int MAGIC = 0x56525331; // "VRS1"
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte TRUE = 5;
+    private static final byte FALSE = 6;
+    private static final byte BIG_INTEGER = 7;
+    private static final byte BIG_DECIMAL = 8;
+    private static final byte DATE = 9;
+    private static final byte LIST = 10;
+    private static final byte MAP = 11;
+
+    private final Map<String, Entry> entries;
+
+    private RuleSnapshot(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    // Null when the file is not in the snapshot or its YAML has changed since the snapshot was built
+    Map<String, Map<String, Object>> sections(String name, long yamlChecksum) {
+        Entry entry = entries.get(name);
+        return entry == null || entry.checksum != yamlChecksum ? null : entry.sections;
+    }
+
+    static long checksum(byte[] yaml) {
+        CRC32C crc = new CRC32C();
+        crc.update(yaml);
+        return crc.getValue();
+    }
+
+    // A file path is memory-mapped; anything else is looked up on the classpath. Null when absent.
+    static RuleSnapshot load(String location) throws IOException {
+        Path path = Paths.get(location);
+        if (!Files.isRegularFile(path)) {
+            URL url = RuleSnapshot.class.getClassLoader().getResource(location);
+            if (url == null) {
+                return null;
+            }
+            path = null;
+            if ("file".equals(url.getProtocol())) {
+                try {
+                    path = Paths.get(url.toURI());
+                } catch (URISyntaxException e) {
+                    // Read it through the stream below
+                }
+            }
+            if (path == null) {
+                try (InputStream input = url.openStream()) {
+                    return read(ByteBuffer.wrap(input.readAllBytes()));
+                }
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static RuleSnapshot read(ByteBuffer buffer) throws IOException {
+        try {
+            int end = buffer.limit() - Long.BYTES;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate().limit(end));
+            if (crc.getValue() != buffer.getLong(end)) {
+                throw new IOException("Rule snapshot checksum mismatch");
+            }
+            buffer = buffer.duplicate().limit(end);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a rule snapshot");
+            }
+            Map<String, Entry> entries = new HashMap<>();
+            for (int files = buffer.getInt(); files > 0; files--) {
+                String name = readString(buffer);
+                long checksum = buffer.getLong();
+                Map<String, Map<String, Object>> sections = new HashMap<>();
+                for (int count = buffer.getInt(); count > 0; count--) {
+                    String section = readString(buffer);
+                    Map<String, Object> endpoints = new HashMap<>();
+                    for (int endpointCount = buffer.getInt(); endpointCount > 0; endpointCount--) {
+                        String endpoint = readString(buffer);
+                        int length = buffer.getInt();
+                        ByteBuffer slice = buffer.slice().limit(length);
+                        buffer.position(buffer.position() + length);
+                        endpoints.put(endpoint, slice);
+                    }
+                    sections.put(section, endpoints);
+                }
+                entries.put(name, new Entry(checksum, sections));
+            }
+            return new RuleSnapshot(entries);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated rule snapshot", e);
+        }
+    }
+
+    // Decodes one endpoint; safe to call from several threads on the same slice
+    static Object decode(ByteBuffer slice) {
+        return readValue(slice.duplicate());
+    }
+
+    // files: rule file name -> YAML bytes -> parsed requests/responses sections
+    static byte[] write(Map<String, byte[]> yaml, Map<String, Map<String, Map<String, Object>>> sections)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(yaml.size());
+        for (Map.Entry<String, byte[]> file : yaml.entrySet()) {
+            writeString(out, file.getKey());
+            out.writeLong(checksum(file.getValue()));
+            Map<String, Map<String, Object>> fileSections = sections.getOrDefault(file.getKey(), Collections.emptyMap());
+            out.writeInt(fileSections.size());
+            for (Map.Entry<String, Map<String, Object>> section : fileSections.entrySet()) {
+                writeString(out, section.getKey());
+                out.writeInt(section.getValue().size());
+                for (Map.Entry<String, Object> endpoint : section.getValue().entrySet()) {
+                    writeString(out, endpoint.getKey());
+                    ByteArrayOutputStream value = new ByteArrayOutputStream();
+                    writeValue(new DataOutputStream(value), endpoint.getValue());
+                    out.writeInt(value.size());
+                    value.writeTo(out);
+                }
+            }
+        }
+        out.flush();
+        CRC32C crc = new CRC32C();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeString(out, value.toString());
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            writeString(out, value.toString());
+        } else if (value instanceof Date) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IOException("Unsupported value in rule file: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(ByteBuffer in) {
+        byte tag = in.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INT:
+                return in.getInt();
+            case LONG:
+                return in.getLong();
+            case DOUBLE:
+                return in.getDouble();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case BIG_INTEGER:
+                return new BigInteger(readString(in));
+            case BIG_DECIMAL:
+                return new BigDecimal(readString(in));
+            case DATE:
+                return new Date(in.getLong());
+            case LIST: {
+                int size = in.getInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case MAP: {
+                int size = in.getInt();
+                // Same map type and iteration order as SnakeYAML produces
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(in), readValue(in));
+                }
+                return map;
+            }
+            default:
+                throw new IllegalStateException("Corrupt rule snapshot: unknown tag " + tag);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            in.duplicate().get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static final class Entry {
+        final long checksum;
+        // Section -> endpoint -> encoded value slice
+        final Map<String, Map<String, Object>> sections;
+
+        Entry(long checksum, Map<String, Map<String, Object>> sections) {
+            this.checksum = checksum;
+            this.sections = sections;
+        }
+    }
+}
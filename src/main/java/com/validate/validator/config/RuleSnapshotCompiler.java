@@ -0,0 +1,89 @@
+package com.validate.validator.config;
+
+import com.validate.validator.ValidatorRegistry;
+import com.validate.validator.plan.PlanCompiler;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+// Build-time step that writes the rule files named in validation-config.properties to a binary
+// snapshot. Every endpoint is compiled first, so a rule file with an unknown rule type fails the build
+// rather than the first request. Run by the rule-snapshot Maven profile, or by hand:
+//   java com.validate.validator.config.RuleSnapshotCompiler <output> [ruleName ...]
+public final class RuleSnapshotCompiler {
+
+    private RuleSnapshotCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: RuleSnapshotCompiler <output> [ruleName ...]");
+            System.exit(2);
+        }
+        Properties properties = new Properties();
+        try (InputStream input = RuleSnapshotCompiler.class.getClassLoader()
+                .getResourceAsStream("validation-config.properties")) {
+            if (input != null) {
+                properties.load(input);
+            }
+        }
+        if (args.length > 1) {
+            properties.setProperty(ValidationConfig.RULE_NAMES, String.join(",", Arrays.asList(args).subList(1, args.length)));
+        }
+        int files = compile(properties, Paths.get(args[0]));
+        System.out.println("Wrote " + files + " rule file(s) to " + args[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static int compile(Properties properties, Path output) throws IOException {
+        String names = properties.getProperty(ValidationConfig.RULE_NAMES);
+        if (names == null) {
+            throw new IOException(ValidationConfig.RULE_NAMES + " is not set");
+        }
+        String ruleDir = properties.getProperty(ValidationConfig.RULE_DIR);
+        PlanCompiler planCompiler = new PlanCompiler(ValidatorRegistry.shared());
+        Map<String, byte[]> yaml = new LinkedHashMap<>();
+        Map<String, Map<String, Map<String, Object>>> sections = new LinkedHashMap<>();
+        for (String name : names.split(",")) {
+            RuleSource source = RuleSource.resolve(name.trim(), ruleDir);
+            byte[] bytes;
+            try (InputStream input = source.open()) {
+                bytes = input.readAllBytes();
+            }
+            Map<String, Object> config = new Yaml().load(new String(bytes, StandardCharsets.UTF_8));
+            Map<String, Map<String, Object>> fileSections = new LinkedHashMap<>();
+            for (String section : new String[] {RuleFile.REQUESTS, RuleFile.RESPONSES}) {
+                Object endpoints = config == null ? null : config.get(section);
+                if (endpoints instanceof Map) {
+                    fileSections.put(section, (Map<String, Object>) endpoints);
+                }
+            }
+            for (Map<String, Object> endpoints : fileSections.values()) {
+                for (Object endpoint : endpoints.values()) {
+                    Object validations = endpoint instanceof Map ? ((Map<String, Object>) endpoint).get("validations") : null;
+                    if (validations instanceof List) {
+                        planCompiler.compile((List<Map<String, Object>>) validations);
+                    }
+                }
+            }
+            yaml.put(source.getName(), bytes);
+            sections.put(source.getName(), fileSections);
+        }
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(output, RuleSnapshot.write(yaml, sections));
+        return yaml.size();
+    }
+}
@@ -0,0 +1,87 @@
+package com.validate.validator.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Where a rule file is read from: a file on disk, which can be reloaded, or a classpath resource
+// packaged in a jar, which cannot.
+final class RuleSource {
+    private final String name;
+    private final Path path;
+    private final String resource;
+
+    private RuleSource(String name, Path path, String resource) {
+        this.name = name;
+        this.path = path;
+        this.resource = resource;
+    }
+
+    static RuleSource resolve(String name, String ruleDir) {
+        String fileName = name + ".yml";
+        if (ruleDir != null && !ruleDir.isBlank()) {
+            return new RuleSource(name, Paths.get(ruleDir).resolve(fileName), null);
+        }
+        URL url = RuleSource.class.getClassLoader().getResource(fileName);
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                return new RuleSource(name, Paths.get(url.toURI()), null);
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // Fall back to reading it as a plain resource
+            }
+        }
+        return new RuleSource(name, null, fileName);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    // Null for classpath resources
+    Path getPath() {
+        return path;
+    }
+
+    boolean isReloadable() {
+        return path != null;
+    }
+
+    InputStream open() throws IOException {
+        if (path != null) {
+            return Files.newInputStream(path);
+        }
+        InputStream input = RuleSource.class.getClassLoader().getResourceAsStream(resource);
+        if (input == null) {
+            throw new IOException("Unable to find " + resource);
+        }
+        return input;
+    }
+
+    Stamp stamp() throws IOException {
+        if (path == null) {
+            return Stamp.NONE;
+        }
+        return new Stamp(Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+    }
+
+    // Modification time and size, compared to decide whether a file needs to be parsed again
+    static final class Stamp {
+        static final Stamp NONE = new Stamp(-1, -1);
+
+        private final long modified;
+        private final long size;
+
+        Stamp(long modified, long size) {
+            this.modified = modified;
+            this.size = size;
+        }
+
+        boolean sameAs(Stamp other) {
+            return modified == other.modified && size == other.size;
+        }
+    }
+}
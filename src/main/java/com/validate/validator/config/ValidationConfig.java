@@ -1,32 +1,96 @@
 package com.validate.validator.config;
 
-import org.yaml.snakeyaml.Yaml;
+import com.validate.validator.ValidatorRegistry;
+import com.validate.validator.plan.PlanCompiler;
+import com.validate.validator.plan.ValidationPlan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
-@SuppressWarnings("unchecked")
-public class ValidationConfig {
+// Readers go through a single volatile snapshot and never lock. reload() and the background reloader
+// build a complete new snapshot, compile its plans, and only then publish it.
+//
+// With validate.validator.load.mode=lazy nothing is read up front: each rule file is read the first
+// time one of its endpoints is asked for, and each endpoint is parsed and compiled on its own first
+// use. Endpoints listed in validate.validator.warmup (ruleName/endpoint, comma separated) are compiled
+// in the constructor instead.
+public class ValidationConfig implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger(ValidationConfig.class);
-    private Map<String, Map<String, Object>> rules ;
     private static final String PROPERTIES_FILE = "validation-config.properties";
+    static final String RULE_NAMES = "validate.validator.rule.names";
+    static final String RULE_DIR = "validate.validator.rule.dir";
+    static final String RELOAD_MODE = "validate.validator.reload.mode";
+    static final String RELOAD_INTERVAL = "validate.validator.reload.interval.ms";
+    static final String LOAD_MODE = "validate.validator.load.mode";
+    static final String WARMUP = "validate.validator.warmup";
+    static final String SNAPSHOT = "validate.validator.snapshot";
+    private static final String DEFAULT_SNAPSHOT = "validation-rules.snapshot";
+    private static final long DEFAULT_RELOAD_INTERVAL = 5000;
+
+    private final List<RuleSource> sources = new ArrayList<>();
+    private final PlanCompiler planCompiler;
+    private final boolean lazy;
+    private volatile ConfigSnapshot snapshot;
+    private ConfigReloader reloader;
 
     public ValidationConfig() {
-        rules = new HashMap<>();
-        Properties properties = loadProperties();
-        String rules= (String) properties.get("validate.validator.rule.names");
-        String [] names = rules.split(",");
-        for(String name : names)
-            loadConfig(name.concat(".yml"));
-    }
-    private Properties loadProperties() {
+        this(loadProperties());
+    }
+
+    public ValidationConfig(Properties properties) {
+        this(properties, new PlanCompiler(ValidatorRegistry.shared()));
+    }
+
+    public ValidationConfig(Properties properties, PlanCompiler planCompiler) {
+        this.planCompiler = planCompiler;
+        this.lazy = "lazy".equalsIgnoreCase(properties.getProperty(LOAD_MODE, "eager").trim());
+        String rules = properties.getProperty(RULE_NAMES);
+        String ruleDir = properties.getProperty(RULE_DIR);
+        RuleSnapshot ruleSnapshot = loadSnapshot(properties.getProperty(SNAPSHOT, DEFAULT_SNAPSHOT).trim());
+        Map<String, RuleFile> files = new HashMap<>();
+        for (String name : rules.split(",")) {
+            RuleSource source = RuleSource.resolve(name.trim(), ruleDir);
+            sources.add(source);
+            RuleFile file = new RuleFile(source, lazy, ruleSnapshot);
+            if (!lazy) {
+                file.load();
+            }
+            files.put(source.getName(), file);
+        }
+        snapshot = new ConfigSnapshot(files, planCompiler, 0);
+
+        String warmup = properties.getProperty(WARMUP, "").trim();
+        if (!warmup.isEmpty()) {
+            for (String entry : warmup.split(",")) {
+                String[] parts = entry.trim().split("/", 2);
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Warm-up entries must be ruleName/endpoint: " + entry);
+                }
+                warmUp(parts[0], parts[1]);
+            }
+        }
+
+        String mode = properties.getProperty(RELOAD_MODE, "none").trim();
+        long interval = Long.parseLong(properties.getProperty(RELOAD_INTERVAL,
+            String.valueOf(DEFAULT_RELOAD_INTERVAL)).trim());
+        if ("watch".equalsIgnoreCase(mode)) {
+            startWatching(interval);
+        } else if ("poll".equalsIgnoreCase(mode)) {
+            startPolling(interval);
+        }
+    }
+
+    private static Properties loadProperties() {
         Properties props = new Properties();
-        try (InputStream input = getClass().getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+        try (InputStream input = ValidationConfig.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
             if (input == null) {
                 throw new IOException("Unable to find " + PROPERTIES_FILE);
             }
@@ -39,30 +103,148 @@ public class ValidationConfig {
         return props;
     }
 
-    private void loadConfig(final String rulesName) {
+    // The snapshot is an optimisation only: when it is missing or unreadable the YAML files are parsed
+    private static RuleSnapshot loadSnapshot(String location) {
+        if (location.isEmpty()) {
+            return null;
+        }
+        try {
+            RuleSnapshot ruleSnapshot = RuleSnapshot.load(location);
+            if (ruleSnapshot != null) {
+                logger.info("Loaded rule snapshot {}", location);
+            }
+            return ruleSnapshot;
+        } catch (IOException e) {
+            logger.warn("Ignoring rule snapshot {}", location, e);
+            return null;
+        }
+    }
+
+    // Re-reads the rule files that changed on disk since the current snapshot and publishes a new
+    // snapshot with their plans precompiled. Returns false when nothing changed. On a parse or compile
+    // error the current snapshot stays in place and the exception propagates.
+    public synchronized boolean reload() {
+        ConfigSnapshot current = snapshot;
+        Map<String, RuleFile> files = new HashMap<>(current.getFiles());
+        boolean changed = false;
+        for (RuleSource source : sources) {
+            if (!source.isReloadable()) {
+                continue;
+            }
+            RuleFile file = files.get(source.getName());
+            if (!file.isLoaded()) {
+                // Not read yet, so its first use will read the current contents anyway
+                continue;
+            }
+            RuleSource.Stamp stamp;
+            try {
+                stamp = source.stamp();
+            } catch (IOException e) {
+                // Mid-replace or deleted: keep what we have and try again next time
+                logger.warn("Unable to read {}, keeping the loaded rules", source.getPath(), e);
+                continue;
+            }
+            if (file.getStamp().sameAs(stamp)) {
+                continue;
+            }
+            // A changed file no longer matches the build-time snapshot, so reloads always parse YAML
+            RuleFile reloaded = new RuleFile(source, lazy, null);
+            reloaded.load();
+            reloaded.precompile(planCompiler, lazy ? file : null);
+            files.put(source.getName(), reloaded);
+            changed = true;
+        }
+        if (!changed) {
+            return false;
+        }
+        ConfigSnapshot next = new ConfigSnapshot(files, planCompiler, current.getGeneration() + 1);
+        if (current.isRoutingUsed()) {
+            // Routing is in use, so build the new index here rather than on the next request; conflicting
+            // routes reject the reload like a parse error does
+            next.routes();
+        }
+        snapshot = next;
+        logger.info("Published validation configuration generation {}", current.getGeneration() + 1);
+        return true;
+    }
+
+    public synchronized void startWatching(long fallbackIntervalMillis) {
+        List<Path> paths = reloadablePaths();
+        if (reloader != null || paths.isEmpty()) {
+            return;
+        }
         try {
-            Yaml yaml = new Yaml();
-            InputStream inputStream = this.getClass()
-                .getClassLoader()
-                .getResourceAsStream(rulesName);
-            Map<String, Object> config = yaml.load(inputStream);
-            rules.put(rulesName.replace(".yml",""),config);
-            logger.info("Validation configuration loaded successfully");
-        } catch (Exception e) {
-            logger.error("Failed to load validation configuration", e);
-            throw new RuntimeException("Failed to load validation configuration", e);
+            reloader = ConfigReloader.watching(this, paths, fallbackIntervalMillis);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.warn("File watching is unavailable, polling rule files instead", e);
+            reloader = ConfigReloader.polling(this, fallbackIntervalMillis);
+        }
+    }
+
+    public synchronized void startPolling(long intervalMillis) {
+        if (reloader != null || reloadablePaths().isEmpty()) {
+            return;
         }
+        reloader = ConfigReloader.polling(this, intervalMillis);
+    }
+
+    private List<Path> reloadablePaths() {
+        List<Path> paths = new ArrayList<>();
+        for (RuleSource source : sources) {
+            if (source.isReloadable()) {
+                paths.add(source.getPath());
+            }
+        }
+        if (paths.isEmpty()) {
+            logger.warn("Rule files are packaged resources and cannot be reloaded; set {}", RULE_DIR);
+        }
+        return paths;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (reloader != null) {
+            try {
+                reloader.close();
+            } catch (IOException e) {
+                logger.warn("Failed to stop the rule reloader", e);
+            }
+            reloader = null;
+        }
+    }
+
+    // Compiles the request and response plans of an endpoint ahead of its first request
+    public void warmUp(String ruleName, String endpoint) {
+        ConfigSnapshot current = snapshot;
+        ValidationPlan request = current.getRequestPlan(ruleName, endpoint);
+        ValidationPlan response = current.getResponsePlan(ruleName, endpoint);
+        if (request == null && response == null) {
+            logger.warn("Nothing to warm up for {}/{}", ruleName, endpoint);
+        }
+    }
+
+    // Hold on to the snapshot to read several endpoints from one consistent version
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
     public Map<String, Object> getRequestValidation(String ruleName, String endpoint) {
-        Map<String, Object> config = rules.get(ruleName);
-        Map<String, Object> requests = (Map<String, Object>) config.get("requests");
-        return (Map<String, Object>) requests.get(endpoint);
+        return snapshot.getRequestValidation(ruleName, endpoint);
     }
 
     public Map<String, Object> getResponseValidation(String ruleName, String endpoint) {
-        Map<String, Object> config = rules.get(ruleName);
-        Map<String, Object> responses = (Map<String, Object>) config.get("responses");
-        return (Map<String, Object>) responses.get(endpoint);
+        return snapshot.getResponseValidation(ruleName, endpoint);
+    }
+
+    public Route route(String method, String path) {
+        return snapshot.route(method, path);
+    }
+
+    public ValidationPlan getRequestPlan(String ruleName, String endpoint) {
+        return snapshot.getRequestPlan(ruleName, endpoint);
+    }
+
+    public ValidationPlan getResponsePlan(String ruleName, String endpoint) {
+        return snapshot.getResponsePlan(ruleName, endpoint);
     }
-} 
\ No newline at end of file
+}
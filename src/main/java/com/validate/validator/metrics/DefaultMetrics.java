@@ -0,0 +1,30 @@
+package com.validate.validator.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+final class DefaultMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(DefaultMetrics.class);
+    static final ValidationMetrics INSTANCE = load();
+
+    private DefaultMetrics() {
+    }
+
+    private static ValidationMetrics load() {
+        try {
+            Iterator<ValidationMetrics> providers = ServiceLoader.load(ValidationMetrics.class).iterator();
+            if (providers.hasNext()) {
+                ValidationMetrics metrics = providers.next();
+                logger.info("Loaded validation metrics via SPI: {}", metrics.getClass().getName());
+                return metrics;
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.warn("Ignoring validation metrics provider that failed to load, using JMX", e);
+        }
+        return new JmxValidationMetrics();
+    }
+}
@@ -0,0 +1,185 @@
+package com.validate.validator.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Everything recorded for one endpoint. Recording only reads the field and rule maps after the first
+// sighting of a field, and counts with LongAdders, so it scales with the number of validating threads.
+public class EndpointMetrics implements EndpointMetricsMBean {
+    private static final int SLOWEST_FIELDS = 10;
+
+    private final String endpoint;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+    private final ConcurrentMap<String, FieldMetrics> fields = new ConcurrentHashMap<>();
+
+    EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void recordValidation(long nanos, boolean valid) {
+        latency.record(nanos);
+        if (!valid) {
+            failures.increment();
+        }
+    }
+
+    void recordField(String field, long nanos) {
+        field(field).record(nanos);
+    }
+
+    void recordRule(String field, String ruleType, boolean failed) {
+        field(field).rule(ruleType).record(failed);
+    }
+
+    private FieldMetrics field(String field) {
+        FieldMetrics metrics = fields.get(field);
+        return metrics != null ? metrics : fields.computeIfAbsent(field, FieldMetrics::new);
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public long getValidations() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latency.getMean();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return latency.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.getMax();
+    }
+
+    @Override
+    public String[] getSlowestFields() {
+        List<FieldMetrics> sorted = new ArrayList<>(fields.values());
+        sorted.removeIf(field -> field.count.sum() == 0);
+        sorted.sort(Comparator.comparingLong((FieldMetrics field) -> field.nanos.sum()).reversed()
+            .thenComparing(field -> field.name));
+        List<String> slowest = new ArrayList<>();
+        for (FieldMetrics field : sorted.subList(0, Math.min(SLOWEST_FIELDS, sorted.size()))) {
+            long count = field.count.sum();
+            slowest.add(field.name + ": total " + field.nanos.sum() + "ns, mean " + field.nanos.sum() / count
+                + "ns, max " + field.max.get() + "ns over " + count + " values");
+        }
+        return slowest.toArray(new String[0]);
+    }
+
+    @Override
+    public String[] getRuleCounts() {
+        List<RuleCount> counts = new ArrayList<>();
+        for (FieldMetrics field : fields.values()) {
+            for (RuleMetrics rule : field.rules.values()) {
+                counts.add(new RuleCount(field.name + " " + rule.type, rule.invocations.sum(), rule.failures.sum()));
+            }
+        }
+        counts.sort(Comparator.comparingLong((RuleCount count) -> count.failures).reversed()
+            .thenComparing(count -> count.name));
+        String[] result = new String[counts.size()];
+        for (int i = 0; i < result.length; i++) {
+            RuleCount count = counts.get(i);
+            result[i] = count.name + ": " + count.failures + " failed of " + count.invocations;
+        }
+        return result;
+    }
+
+    // Counts for one rule type on one field
+    public long getRuleInvocations(String field, String ruleType) {
+        FieldMetrics metrics = fields.get(field);
+        RuleMetrics rule = metrics == null ? null : metrics.rules.get(ruleType);
+        return rule == null ? 0 : rule.invocations.sum();
+    }
+
+    public long getRuleFailures(String field, String ruleType) {
+        FieldMetrics metrics = fields.get(field);
+        RuleMetrics rule = metrics == null ? null : metrics.rules.get(ruleType);
+        return rule == null ? 0 : rule.failures.sum();
+    }
+
+    private static final class FieldMetrics {
+        final String name;
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        final ConcurrentMap<String, RuleMetrics> rules = new ConcurrentHashMap<>();
+
+        FieldMetrics(String name) {
+            this.name = name;
+        }
+
+        void record(long elapsed) {
+            count.increment();
+            nanos.add(elapsed);
+            max.accumulate(elapsed);
+        }
+
+        RuleMetrics rule(String type) {
+            RuleMetrics metrics = rules.get(type);
+            return metrics != null ? metrics : rules.computeIfAbsent(type, RuleMetrics::new);
+        }
+    }
+
+    private static final class RuleMetrics {
+        final String type;
+        final LongAdder invocations = new LongAdder();
+        final LongAdder failures = new LongAdder();
+
+        RuleMetrics(String type) {
+            this.type = type;
+        }
+
+        void record(boolean failed) {
+            invocations.increment();
+            if (failed) {
+                failures.increment();
+            }
+        }
+    }
+
+    private static final class RuleCount {
+        final String name;
+        final long invocations;
+        final long failures;
+
+        RuleCount(String name, long invocations, long failures) {
+            this.name = name;
+            this.invocations = invocations;
+            this.failures = failures;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.validate.validator.metrics;
+
+public interface EndpointMetricsMBean {
+    long getValidations();
+
+    long getFailures();
+
+    double getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+
+    long getMaxNanos();
+
+    // The fields that took the most time in total, slowest first
+    String[] getSlowestFields();
+
+    // Invocation and failure counts per field and rule, most failures first
+    String[] getRuleCounts();
+}
@@ -0,0 +1,98 @@
+package com.validate.validator.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Keeps the metrics in memory and publishes one MBean per endpoint, named
+// com.validate.validator:type=ValidationMetrics,name=<name>,endpoint=<endpoint>. The MBean is registered
+// the first time an endpoint is validated.
+public class JmxValidationMetrics implements ValidationMetrics, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(JmxValidationMetrics.class);
+    private static final String DOMAIN = "com.validate.validator";
+
+    private final MBeanServer server;
+    private final String name;
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    public JmxValidationMetrics() {
+        this("default");
+    }
+
+    public JmxValidationMetrics(String name) {
+        this(ManagementFactory.getPlatformMBeanServer(), name);
+    }
+
+    // A null server keeps the metrics in memory only
+    public JmxValidationMetrics(MBeanServer server, String name) {
+        this.server = server;
+        this.name = name;
+    }
+
+    @Override
+    public void recordValidation(String endpoint, long nanos, boolean valid) {
+        endpoint(endpoint).recordValidation(nanos, valid);
+    }
+
+    @Override
+    public void recordField(String endpoint, String field, long nanos) {
+        endpoint(endpoint).recordField(field, nanos);
+    }
+
+    @Override
+    public void recordRule(String endpoint, String field, String ruleType, boolean failed) {
+        endpoint(endpoint).recordRule(field, ruleType, failed);
+    }
+
+    // Null until the endpoint has been validated
+    public EndpointMetrics getEndpoint(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    private EndpointMetrics endpoint(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics != null ? metrics : endpoints.computeIfAbsent(endpoint, this::register);
+    }
+
+    private EndpointMetrics register(String endpoint) {
+        EndpointMetrics metrics = new EndpointMetrics(endpoint);
+        if (server != null) {
+            try {
+                server.registerMBean(metrics, objectName(endpoint));
+            } catch (JMException e) {
+                // Metrics are still collected, only not visible over JMX
+                logger.warn("Could not register validation metrics for {}", endpoint, e);
+            }
+        }
+        return metrics;
+    }
+
+    private ObjectName objectName(String endpoint) throws JMException {
+        return new ObjectName(DOMAIN + ":type=ValidationMetrics,name=" + ObjectName.quote(name)
+            + ",endpoint=" + ObjectName.quote(endpoint));
+    }
+
+    // Unregisters the MBeans; the metrics stay readable through getEndpoint
+    @Override
+    public void close() {
+        if (server == null) {
+            return;
+        }
+        for (String endpoint : endpoints.keySet()) {
+            try {
+                ObjectName objectName = objectName(endpoint);
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+            } catch (JMException e) {
+                logger.warn("Could not unregister validation metrics for {}", endpoint, e);
+            }
+        }
+    }
+}
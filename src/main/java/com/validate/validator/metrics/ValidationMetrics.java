@@ -0,0 +1,25 @@
+package com.validate.validator.metrics;
+
+// Receives timings and outcomes from ObjectValidator when metrics are switched on with
+// ObjectValidator.setMetrics. Endpoints are plan names, such as validation-rules/requests/createOrder,
+// and fields are FieldPlan paths, such as items[].quantity.
+//
+// Calls come from every validating thread at once, so implementations must be thread-safe and should
+// not lock. Implementations are found with ServiceLoader; without one JmxValidationMetrics is used.
+public interface ValidationMetrics {
+
+    // A top-level validation finished; valid is false when it found a violation or failed
+    void recordValidation(String endpoint, long nanos, boolean valid);
+
+    // The rules of one value field ran
+    void recordField(String endpoint, String field, long nanos);
+
+    // One rule ran against one value
+    void recordRule(String endpoint, String field, String ruleType, boolean failed);
+
+    // The first ValidationMetrics registered in META-INF/services, or JmxValidationMetrics; created once
+    // per process, so all validators share the same counters
+    static ValidationMetrics getDefault() {
+        return DefaultMetrics.INSTANCE;
+    }
+}
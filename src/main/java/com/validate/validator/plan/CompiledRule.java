@@ -0,0 +1,55 @@
+package com.validate.validator.plan;
+
+import com.validate.validator.rules.FieldValidator;
+import com.validate.validator.rules.RuleCheck;
+
+import java.util.Map;
+
+public final class CompiledRule {
+    public static final int NO_ID = -1;
+
+    private final String type;
+    private final FieldValidator validator;
+    private final Map<String, Object> params;
+    private final RuleCheck check;
+    private final int cost;
+    // The registry id, or NO_ID when the plan was compiled against a registry that was not frozen
+    private final int validatorId;
+
+    CompiledRule(String type, FieldValidator validator, Map<String, Object> params) {
+        this(type, validator, params, NO_ID);
+    }
+
+    CompiledRule(String type, FieldValidator validator, Map<String, Object> params, int validatorId) {
+        this.type = type;
+        this.validatorId = validatorId;
+        this.validator = validator;
+        this.params = params;
+        this.check = validator.compile(params);
+        this.cost = validator.getCost();
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public FieldValidator getValidator() {
+        return validator;
+    }
+
+    public Map<String, Object> getParams() {
+        return params;
+    }
+
+    public RuleCheck getCheck() {
+        return check;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public int getValidatorId() {
+        return validatorId;
+    }
+}
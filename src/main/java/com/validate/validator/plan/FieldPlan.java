@@ -0,0 +1,87 @@
+package com.validate.validator.plan;
+
+import com.validate.validator.access.FieldAccessor;
+import com.validate.validator.access.FieldAccessors;
+
+import java.util.List;
+
+public final class FieldPlan {
+    public enum Kind { VALUE, OBJECT, LIST }
+
+    // parallelThreshold when the YAML does not set one; the ObjectValidator's own threshold applies
+    public static final int INHERIT_PARALLEL_THRESHOLD = -1;
+
+    private final String name;
+    private final String path;
+    private final Kind kind;
+    private final boolean required;
+    private final List<CompiledRule> rules;
+    private final ValidationPlan nested;
+    private final int parallelThreshold;
+    // Only for value fields with more than one rule
+    private final RuleOrder ruleOrder;
+    // Accessor for the last class this field was read from; plans almost always see a single class.
+    // Only that one class is held, until another is read.
+    private volatile FieldAccessor lastAccessor;
+
+    FieldPlan(String name, String path, Kind kind, boolean required, List<CompiledRule> rules, ValidationPlan nested) {
+        this(name, path, kind, required, rules, nested, INHERIT_PARALLEL_THRESHOLD);
+    }
+
+    FieldPlan(String name, String path, Kind kind, boolean required, List<CompiledRule> rules, ValidationPlan nested,
+              int parallelThreshold) {
+        this.name = name;
+        this.path = path;
+        this.kind = kind;
+        this.required = required;
+        this.rules = List.copyOf(rules);
+        this.nested = nested;
+        this.parallelThreshold = parallelThreshold;
+        this.ruleOrder = kind == Kind.VALUE && this.rules.size() > 1 ? new RuleOrder(this.rules) : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Position in the top-level plan with list items written as [], e.g. items[].quantity
+    public String getPath() {
+        return path;
+    }
+
+    public FieldAccessor getAccessor(Class<?> type) throws NoSuchFieldException, IllegalAccessException {
+        FieldAccessor accessor = lastAccessor;
+        if (accessor == null || accessor.getDeclaringClass() != type) {
+            accessor = FieldAccessors.forField(type, name);
+            lastAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public boolean isRequired() {
+        return required;
+    }
+
+    public List<CompiledRule> getRules() {
+        return rules;
+    }
+
+    // Learned execution order for fail-fast validation; null when the field has a single rule
+    public RuleOrder getRuleOrder() {
+        return ruleOrder;
+    }
+
+    // Fields of a nested object, or the item validations of a list; null when none are configured
+    public ValidationPlan getNested() {
+        return nested;
+    }
+
+    // Minimum list size for validating items in parallel, 0 to never do so, or INHERIT_PARALLEL_THRESHOLD
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+}
@@ -0,0 +1,84 @@
+package com.validate.validator.plan;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Caches compiled plans by the identity of their raw validations list. Keys are weak, so plans
+// compiled for configs that are no longer referenced (e.g. after a reload) are dropped.
+public class PlanCache {
+    private final ConcurrentHashMap<Key, ValidationPlan> plans = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> staleKeys = new ReferenceQueue<>();
+    private volatile Entry last;
+
+    public ValidationPlan get(List<Map<String, Object>> validations,
+                              Function<List<Map<String, Object>>, ValidationPlan> compiler) {
+        // Most callers validate against the same list over and over
+        Entry entry = last;
+        if (entry != null && entry.key.get() == validations) {
+            return entry.plan;
+        }
+
+        expungeStaleKeys();
+        Key key = new Key(validations, staleKeys);
+        ValidationPlan plan = plans.computeIfAbsent(key, k -> compiler.apply(validations));
+        last = new Entry(key, plan);
+        return plan;
+    }
+
+    public int size() {
+        expungeStaleKeys();
+        return plans.size();
+    }
+
+    public void clear() {
+        plans.clear();
+        last = null;
+    }
+
+    private void expungeStaleKeys() {
+        Object stale;
+        while ((stale = staleKeys.poll()) != null) {
+            plans.remove(stale);
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+        private final int hash;
+
+        Key(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((Key) other).get();
+        }
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final ValidationPlan plan;
+
+        Entry(Key key, ValidationPlan plan) {
+            this.key = key;
+            this.plan = plan;
+        }
+    }
+}
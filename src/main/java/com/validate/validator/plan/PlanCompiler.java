@@ -0,0 +1,115 @@
+package com.validate.validator.plan;
+
+import com.validate.validator.ValidatorRegistry;
+import jakarta.validation.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@SuppressWarnings("unchecked")
+public class PlanCompiler {
+    private final ValidatorRegistry validatorRegistry;
+    private boolean costOrdering = true;
+
+    public PlanCompiler(ValidatorRegistry validatorRegistry) {
+        this.validatorRegistry = validatorRegistry;
+    }
+
+    public boolean isCostOrdering() {
+        return costOrdering;
+    }
+
+    // By default each field's rules run, and report violations, cheapest first (see RuleCost), keeping
+    // the YAML order among rules of equal cost; turn this off to run them in YAML order
+    public void setCostOrdering(boolean costOrdering) {
+        this.costOrdering = costOrdering;
+    }
+
+    public ValidationPlan compile(List<Map<String, Object>> validations) {
+        return compile(null, validations);
+    }
+
+    // The name identifies the plan in metrics, e.g. validation-rules/requests/createOrder
+    public ValidationPlan compile(String name, List<Map<String, Object>> validations) {
+        return compile(name, validations, "", Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    // enclosing holds the validation lists being compiled around this one. YAML anchors can make a list
+    // contain itself, which would otherwise recurse until the stack overflows.
+    private ValidationPlan compile(String name, List<Map<String, Object>> validations, String prefix,
+                                   Set<Object> enclosing) {
+        if (validations == null) {
+            throw new ValidationException("Validations cannot be null");
+        }
+        if (!enclosing.add(validations)) {
+            throw new ValidationException("Validations for '" + prefix + "' contain themselves");
+        }
+        List<FieldPlan> fields = new ArrayList<>(validations.size());
+        for (Map<String, Object> validation : validations) {
+            fields.add(compileField(validation, prefix, enclosing));
+        }
+        enclosing.remove(validations);
+        return new ValidationPlan(name, fields);
+    }
+
+    private FieldPlan compileField(Map<String, Object> validation, String prefix, Set<Object> enclosing) {
+        String fieldName = (String) validation.get("field");
+        if (fieldName == null) {
+            throw new ValidationException("Validation entry is missing 'field': " + validation);
+        }
+        String path = prefix.isEmpty() ? fieldName : prefix + "." + fieldName;
+
+        List<CompiledRule> rules = compileRules((List<Map<String, Object>>) validation.get("rules"));
+        boolean isRequired = rules.stream()
+            .anyMatch(rule -> "required".equals(rule.getType()));
+
+        String type = (String) validation.get("type");
+        if ("object".equals(type)) {
+            return new FieldPlan(fieldName, path, FieldPlan.Kind.OBJECT, isRequired, rules,
+                compileNested((List<Map<String, Object>>) validation.get("fields"), path, enclosing));
+        } else if ("list".equals(type)) {
+            Number parallelThreshold = (Number) validation.get("parallelThreshold");
+            return new FieldPlan(fieldName, path, FieldPlan.Kind.LIST, isRequired, rules,
+                compileNested((List<Map<String, Object>>) validation.get("itemValidations"), path + "[]", enclosing),
+                parallelThreshold == null ? FieldPlan.INHERIT_PARALLEL_THRESHOLD : parallelThreshold.intValue());
+        }
+        return new FieldPlan(fieldName, path, FieldPlan.Kind.VALUE, isRequired, rules, null);
+    }
+
+    private ValidationPlan compileNested(List<Map<String, Object>> validations, String path,
+                                         Set<Object> enclosing) {
+        return validations == null ? null : compile(null, validations, path, enclosing);
+    }
+
+    private List<CompiledRule> compileRules(List<Map<String, Object>> rules) {
+        if (rules == null) {
+            return Collections.emptyList();
+        }
+        List<CompiledRule> compiled = new ArrayList<>(rules.size());
+        for (Map<String, Object> rule : rules) {
+            String type = (String) rule.get("type");
+            // Snapshot the parameters so later edits to the source map cannot change a compiled plan
+            Map<String, Object> params = Collections.unmodifiableMap(new LinkedHashMap<>(rule));
+            compiled.add(compileRule(type, params));
+        }
+        if (costOrdering) {
+            // A stable sort, so the order is the same on every compile
+            compiled.sort(Comparator.comparingInt(CompiledRule::getCost));
+        }
+        return compiled;
+    }
+
+    private CompiledRule compileRule(String type, Map<String, Object> params) {
+        if (validatorRegistry.isFrozen()) {
+            int id = validatorRegistry.getId(type);
+            return new CompiledRule(type, validatorRegistry.getValidator(id), params, id);
+        }
+        return new CompiledRule(type, validatorRegistry.getValidator(type), params);
+    }
+}
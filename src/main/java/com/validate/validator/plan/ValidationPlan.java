@@ -0,0 +1,115 @@
+package com.validate.validator.plan;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public final class ValidationPlan {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final String name;
+    private final List<FieldPlan> fields;
+    private final Map<String, Integer> indexesByName;
+    private final long fingerprint;
+    private final long id = IDS.incrementAndGet();
+    // Artifacts derived from this plan for one model class, such as a generated validator. A ClassValue
+    // keeps them with the class rather than the plan, so a long-lived plan does not pin the loader of
+    // every model class it has seen (say, a webapp's), and a reloaded config starts from scratch.
+    private final ClassValue<Specialization> specializations = new Specializations();
+
+    ValidationPlan(String name, List<FieldPlan> fields) {
+        this.fields = List.copyOf(fields);
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < this.fields.size(); i++) {
+            byName.putIfAbsent(this.fields.get(i).getName(), i);
+        }
+        this.indexesByName = Map.copyOf(byName);
+        this.fingerprint = fingerprint(this.fields);
+        this.name = name != null ? name : "plan-" + Long.toHexString(fingerprint);
+    }
+
+    // Field names, kinds, rule types and rule parameters, including nested plans, hashed so that a
+    // validator generated at build time can tell whether it was generated for this plan
+    private static long fingerprint(List<FieldPlan> fields) {
+        long hash = FNV_OFFSET;
+        for (FieldPlan field : fields) {
+            hash = mix(hash, field.getName());
+            hash = mix(hash, field.getKind().name());
+            for (CompiledRule rule : field.getRules()) {
+                hash = mix(hash, rule.getType());
+                for (Map.Entry<String, Object> param : new TreeMap<>(rule.getParams()).entrySet()) {
+                    hash = mix(hash, param.getKey());
+                    hash = mix(hash, String.valueOf(param.getValue()));
+                }
+            }
+            hash = mix(hash, field.getNested() == null ? "" : Long.toHexString(field.getNested().getFingerprint()));
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // Separator, so that ("ab", "c") and ("a", "bc") differ
+        return (hash ^ 0xFFFF) * FNV_PRIME;
+    }
+
+    // The endpoint the plan was compiled for, or plan-<fingerprint> for plans compiled without a name
+    public String getName() {
+        return name;
+    }
+
+    public List<FieldPlan> getFields() {
+        return fields;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    // Unique to this instance, unlike the fingerprint: recompiling the same rules gives a new id
+    public long getId() {
+        return id;
+    }
+
+    // The factory runs once per class and must not return null
+    public Object getSpecialization(Class<?> type, Function<Class<?>, Object> factory) {
+        Specialization specialization = specializations.get(type);
+        Object value = specialization.value;
+        if (value == null) {
+            synchronized (specialization) {
+                value = specialization.value;
+                if (value == null) {
+                    value = factory.apply(type);
+                    specialization.value = value;
+                }
+            }
+        }
+        return value;
+    }
+
+    // Index of the first entry for the field, or -1 when the plan does not validate it
+    public int indexOf(String name) {
+        Integer index = indexesByName.get(name);
+        return index == null ? -1 : index;
+    }
+
+    // Static, so the values stored in a class do not reach back to the plan
+    private static final class Specializations extends ClassValue<Specialization> {
+        @Override
+        protected Specialization computeValue(Class<?> type) {
+            return new Specialization();
+        }
+    }
+
+    // Filled by the first factory call; ClassValue may compute a value twice, the factory must run once
+    private static final class Specialization {
+        volatile Object value;
+    }
+}
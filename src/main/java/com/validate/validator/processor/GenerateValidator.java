@@ -0,0 +1,22 @@
+package com.validate.validator.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Asks ValidatorProcessor to generate validators for this model class, one per listed endpoint of the
+// rule file, plus one for each nested object or list item class the endpoint's plan reaches.
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateValidator {
+
+    // Rule file name without .yml, as listed in validate.validator.rule.names
+    String rules();
+
+    // Endpoints under requests
+    String[] requests() default {};
+
+    // Endpoints under responses
+    String[] responses() default {};
+}
@@ -0,0 +1,420 @@
+package com.validate.validator.processor;
+
+import com.validate.validator.ValidatorRegistry;
+import com.validate.validator.plan.CompiledRule;
+import com.validate.validator.plan.FieldPlan;
+import com.validate.validator.plan.PlanCompiler;
+import com.validate.validator.plan.ValidationPlan;
+import com.validate.validator.rules.FieldValidator;
+import jakarta.validation.ValidationException;
+import org.yaml.snakeyaml.Yaml;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Reads the YAML rule files at compile time and writes a plain Java PrecompiledValidator for every
+// @GenerateValidator class and endpoint, and for the nested classes the endpoint reaches. The generated
+// code calls getters directly, inlines the built-in required, minLength and maxLength checks and hands
+// int, long and double values to the other rules unboxed, so no reflection is involved. Each validator
+// is registered in META-INF/services and picked up by ObjectValidator.
+//
+// Rule files are looked up in the directory given by -Avalidate.rules.dir, then in the class output
+// and source path, which covers resources copied by the build before compilation.
+@SupportedAnnotationTypes("com.validate.validator.processor.GenerateValidator")
+@SupportedOptions(ValidatorProcessor.RULES_DIR)
+public class ValidatorProcessor extends AbstractProcessor {
+    static final String RULES_DIR = "validate.rules.dir";
+    private static final String SERVICES = "META-INF/services/com.validate.validator.PrecompiledValidator";
+
+    private Filer filer;
+    private Messager messager;
+    private Elements elements;
+    private Types types;
+    private PlanCompiler planCompiler;
+    private final Map<String, Map<String, Object>> ruleFiles = new HashMap<>();
+    private final Set<String> generated = new LinkedHashSet<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        filer = processingEnv.getFiler();
+        messager = processingEnv.getMessager();
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        planCompiler = new PlanCompiler(new BuildTimeRegistry());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateValidator.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@GenerateValidator only applies to classes", element);
+                continue;
+            }
+            GenerateValidator annotation = element.getAnnotation(GenerateValidator.class);
+            Map<String, Object> rules = ruleFile(annotation.rules(), element);
+            if (rules == null) {
+                continue;
+            }
+            generateEndpoints((TypeElement) element, annotation.rules(), rules, "requests", annotation.requests());
+            generateEndpoints((TypeElement) element, annotation.rules(), rules, "responses", annotation.responses());
+        }
+        if (roundEnv.processingOver() && !generated.isEmpty()) {
+            writeServices();
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void generateEndpoints(TypeElement type, String ruleName, Map<String, Object> rules, String section,
+                                   String[] endpoints) {
+        Map<String, Object> definitions = (Map<String, Object>) rules.get(section);
+        for (String endpoint : endpoints) {
+            Object definition = definitions == null ? null : definitions.get(endpoint);
+            Object validations = definition instanceof Map ? ((Map<String, Object>) definition).get("validations") : null;
+            if (!(validations instanceof List)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "No validations for " + section + "/" + endpoint + " in " + ruleName + ".yml", type);
+                continue;
+            }
+            try {
+                ValidationPlan plan = planCompiler.compile((List<Map<String, Object>>) validations);
+                generate(type, plan, ruleName + ".yml " + section + "/" + endpoint);
+            } catch (ValidationException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), type);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> ruleFile(String name, Element origin) {
+        if (ruleFiles.containsKey(name)) {
+            return ruleFiles.get(name);
+        }
+        String fileName = name + ".yml";
+        Map<String, Object> rules = null;
+        String dir = processingEnv.getOptions().get(RULES_DIR);
+        try {
+            if (dir != null) {
+                Path path = Paths.get(dir, fileName);
+                try (InputStream input = Files.newInputStream(path)) {
+                    rules = new Yaml().load(input);
+                }
+            } else {
+                for (StandardLocation location : new StandardLocation[] {
+                        StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH}) {
+                    try (InputStream input = filer.getResource(location, "", fileName).openInputStream()) {
+                        rules = new Yaml().load(input);
+                        break;
+                    } catch (IOException | IllegalArgumentException e) {
+                        // Try the next location
+                    }
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Cannot read " + fileName + ": " + e.getMessage(), origin);
+            return null;
+        }
+        if (rules == null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Cannot find " + fileName
+                + "; pass its directory with -A" + RULES_DIR, origin);
+        }
+        ruleFiles.put(name, rules);
+        return rules;
+    }
+
+    // Writes the validator for one class and plan, then for the classes of its nested objects and list
+    // items. A class that cannot be generated is reported as a warning and left to the interpreter.
+    private void generate(TypeElement type, ValidationPlan plan, String origin) {
+        String className = validatorName(type, plan);
+        String qualifiedName = packageOf(type).isEmpty() ? className : packageOf(type) + "." + className;
+        if (generated.contains(qualifiedName) || !type.getModifiers().contains(Modifier.PUBLIC)) {
+            return;
+        }
+        List<FieldPlan> fields = plan.getFields();
+        List<String> readers = new ArrayList<>(fields.size());
+        List<TypeMirror> readTypes = new ArrayList<>(fields.size());
+        for (FieldPlan field : fields) {
+            VariableElement variable = findField(type, field.getName());
+            String reader = variable == null ? null : findReader(type, variable);
+            if (reader == null || (field.getKind() != FieldPlan.Kind.VALUE && variable.asType().getKind().isPrimitive())) {
+                messager.printMessage(Diagnostic.Kind.WARNING, "No validator generated for " + type.getQualifiedName()
+                    + ": field '" + field.getName() + "' needs a public getter", type);
+                return;
+            }
+            readers.add(reader);
+            readTypes.add(variable.asType());
+        }
+        generated.add(qualifiedName);
+
+        try (PrintWriter out = new PrintWriter(filer.createSourceFile(qualifiedName, type).openWriter())) {
+            writeSource(out, type, className, plan, readers, readTypes, origin);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Cannot write " + qualifiedName + ": " + e.getMessage(), type);
+            return;
+        }
+
+        for (int i = 0; i < fields.size(); i++) {
+            FieldPlan field = fields.get(i);
+            if (field.getNested() == null) {
+                continue;
+            }
+            TypeElement nestedType = field.getKind() == FieldPlan.Kind.LIST
+                ? elementOf(listItemType(readTypes.get(i)))
+                : elementOf(readTypes.get(i));
+            if (nestedType != null) {
+                generate(nestedType, field.getNested(), origin + " " + field.getName());
+            }
+        }
+    }
+
+    private void writeSource(PrintWriter out, TypeElement type, String className, ValidationPlan plan,
+                             List<String> readers, List<TypeMirror> readTypes, String origin) {
+        String pkg = packageOf(type);
+        String target = type.getQualifiedName().toString();
+        if (!pkg.isEmpty()) {
+            out.println("package " + pkg + ";");
+            out.println();
+        }
+        out.println("import com.validate.validator.GeneratedValidator;");
+        out.println("import com.validate.validator.PrecompiledValidator;");
+        out.println("import com.validate.validator.ValidationContext;");
+        out.println("import com.validate.validator.plan.CompiledRule;");
+        out.println("import com.validate.validator.plan.FieldPlan;");
+        out.println("import com.validate.validator.plan.ValidationPlan;");
+        out.println();
+        out.println("import java.util.List;");
+        out.println();
+        out.println("// Generated from " + origin + "; do not edit");
+        out.println("@javax.annotation.processing.Generated(\"" + ValidatorProcessor.class.getName() + "\")");
+        out.println("public final class " + className + " implements PrecompiledValidator {");
+        out.println();
+        out.println("    @Override");
+        out.println("    public Class<?> getTargetType() {");
+        out.println("        return " + target + ".class;");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public long getPlanFingerprint() {");
+        out.println("        return 0x" + Long.toHexString(plan.getFingerprint()) + "L;");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public void validate(Object obj, ValidationPlan plan, ValidationContext ctx, GeneratedValidator.Nested nested) {");
+        out.println("        " + target + " target = (" + target + ") obj;");
+        out.println("        List<FieldPlan> fields = plan.getFields();");
+        List<FieldPlan> fields = plan.getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            FieldPlan field = fields.get(i);
+            String value = "target." + readers.get(i);
+            out.println();
+            out.println("        // " + field.getName());
+            if (field.getKind() != FieldPlan.Kind.VALUE) {
+                out.println("        nested.validate(" + value + ", fields.get(" + i + "), ctx);");
+                out.println("        if (ctx.isStopped()) return;");
+                continue;
+            }
+            if (field.getRules().isEmpty()) {
+                continue;
+            }
+            TypeMirror valueType = readTypes.get(i);
+            String local = "v" + i;
+            out.println("        " + types.erasure(valueType) + " " + local + " = " + value + ";");
+            out.println("        List<CompiledRule> r" + i + " = fields.get(" + i + ").getRules();");
+            List<CompiledRule> rules = field.getRules();
+            // Other primitives are boxed to their own wrapper type, as the interpreter does
+            TypeKind kind = valueType.getKind();
+            String argument = kind.isPrimitive() && kind != TypeKind.INT && kind != TypeKind.LONG
+                && kind != TypeKind.DOUBLE ? "(Object) " + local : local;
+            for (int j = 0; j < rules.size(); j++) {
+                String check = "ctx.checkField(\"" + field.getName() + "\", r" + i + ".get(" + j + "), " + argument + ")";
+                String inline = inlineCheck(rules.get(j), valueType, local);
+                if (inline == null) {
+                    out.println("        if (" + check + ") return;");
+                } else if (!inline.equals("true")) {
+                    out.println("        if (!(" + inline + ") && " + check + ") return;");
+                }
+            }
+        }
+        out.println("    }");
+        out.println("}");
+    }
+
+    // A Java expression that is true when the value certainly passes the built-in rule, "true" when it
+    // always does, or null to always run the rule's own check. Mirrors the checks in the rules package.
+    private String inlineCheck(CompiledRule rule, TypeMirror valueType, String local) {
+        switch (rule.getType()) {
+            case "required":
+                return valueType.getKind().isPrimitive() ? "true" : local + " != null";
+            case "minLength":
+            case "maxLength": {
+                // Counting code points is left to the rule
+                if (!isString(valueType) || Boolean.TRUE.equals(rule.getParams().get("codePoints"))) {
+                    return null;
+                }
+                int length = ((Number) rule.getParams().get("value")).intValue();
+                String op = rule.getType().equals("minLength") ? " >= " : " <= ";
+                return local + " == null || " + local + ".length()" + op + length;
+            }
+            default:
+                return null;
+        }
+    }
+
+    private boolean isString(TypeMirror type) {
+        return types.isSameType(type, elements.getTypeElement(String.class.getName()).asType());
+    }
+
+    // Only fields the class declares itself, like the interpreter
+    private static VariableElement findField(TypeElement type, String name) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals(name) && !field.getModifiers().contains(Modifier.STATIC)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    // "getX()" or "isX()" when the class has a matching public getter, "x" when the field is public
+    private String findReader(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            String methodName = method.getSimpleName().toString();
+            if ((methodName.equals("get" + suffix) || (isBoolean && methodName.equals("is" + suffix)))
+                    && method.getParameters().isEmpty()
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && types.isSameType(method.getReturnType(), field.asType())) {
+                return methodName + "()";
+            }
+        }
+        return field.getModifiers().contains(Modifier.PUBLIC) ? name : null;
+    }
+
+    private TypeMirror listItemType(TypeMirror listType) {
+        if (listType.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        for (TypeMirror supertype : supertypesOf(listType)) {
+            DeclaredType declared = (DeclaredType) supertype;
+            if (((TypeElement) declared.asElement()).getQualifiedName().contentEquals(List.class.getName())
+                    && declared.getTypeArguments().size() == 1) {
+                return declared.getTypeArguments().get(0);
+            }
+        }
+        return null;
+    }
+
+    private List<TypeMirror> supertypesOf(TypeMirror type) {
+        List<TypeMirror> all = new ArrayList<>();
+        all.add(type);
+        for (int i = 0; i < all.size(); i++) {
+            for (TypeMirror supertype : types.directSupertypes(all.get(i))) {
+                if (supertype.getKind() == TypeKind.DECLARED) {
+                    all.add(supertype);
+                }
+            }
+        }
+        return all;
+    }
+
+    private static TypeElement elementOf(TypeMirror type) {
+        if (type == null || type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        Element element = ((DeclaredType) type).asElement();
+        return element.getKind() == ElementKind.CLASS ? (TypeElement) element : null;
+    }
+
+    private String packageOf(TypeElement type) {
+        PackageElement pkg = elements.getPackageOf(type);
+        return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    }
+
+    // Order -> Order$$Validator_<fingerprint>; nested classes keep their outer class names
+    private String validatorName(TypeElement type, ValidationPlan plan) {
+        String pkg = packageOf(type);
+        String binary = elements.getBinaryName(type).toString();
+        String simple = pkg.isEmpty() ? binary : binary.substring(pkg.length() + 1);
+        return simple.replace('$', '_') + "$$Validator_" + Long.toHexString(plan.getFingerprint());
+    }
+
+    private void writeServices() {
+        try {
+            FileObject services = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+            try (Writer writer = services.openWriter()) {
+                for (String className : generated) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Cannot write " + SERVICES + ": " + e.getMessage());
+        }
+    }
+
+    // Custom rule types are not on the processor path; their checks run at run time anyway, so a
+    // stand-in is enough to compile the plan's structure and fingerprint
+    private static final class BuildTimeRegistry extends ValidatorRegistry {
+        @Override
+        public FieldValidator getValidator(String type) {
+            try {
+                return super.getValidator(type);
+            } catch (ValidationException e) {
+                return new FieldValidator() {
+                    @Override
+                    public void validate(String field, Object value, Map<String, Object> rule) {
+                        throw new UnsupportedOperationException(type + " is only checked at run time");
+                    }
+
+                    @Override
+                    public String getType() {
+                        return type;
+                    }
+                };
+            }
+        }
+    }
+}
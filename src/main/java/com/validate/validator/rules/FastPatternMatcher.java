@@ -0,0 +1,508 @@
+package com.validate.validator.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Matches a deterministic subset of regex syntax by scanning the input once, without allocating.
+//
+// Supported: literals, escaped punctuation, '.', \d \w \s (and negations), [...] classes over ASCII,
+// quantifiers ? * + {n} {n,} {n,m}, plain or (?:) groups, and optional groups of fixed-count atoms.
+// compile() only accepts a pattern when greedy matching cannot be wrong, i.e. every variable-length
+// element is either last or followed by a mandatory element whose first characters it cannot consume.
+// Anything else returns null and the caller keeps using java.util.regex.
+public final class FastPatternMatcher {
+    public static final int NO_MATCH = 0;
+    public static final int MATCH = 1;
+    // The input holds a surrogate where a non-ASCII class is tested; regex counts code points there
+    public static final int UNDECIDED = -1;
+
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final String regex;
+    private final Atom[] atoms;
+    // Non-zero at the first atom of an optional group, giving the number of atoms in the group
+    private final int[] optionalGroupLength;
+
+    private FastPatternMatcher(String regex, Atom[] atoms, int[] optionalGroupLength) {
+        this.regex = regex;
+        this.atoms = atoms;
+        this.optionalGroupLength = optionalGroupLength;
+    }
+
+    public static FastPatternMatcher compile(String regex) {
+        try {
+            return new Parser(regex).parse();
+        } catch (NotSimple e) {
+            return null;
+        }
+    }
+
+    public String getRegex() {
+        return regex;
+    }
+
+    public int match(CharSequence input) {
+        int length = input.length();
+        int pos = 0;
+        int i = 0;
+        while (i < atoms.length) {
+            int groupLength = optionalGroupLength[i];
+            if (groupLength > 0) {
+                int end = matchFixed(input, pos, length, i, i + groupLength);
+                if (end == UNDECIDED) {
+                    return UNDECIDED;
+                }
+                if (end >= 0) {
+                    pos = end;
+                }
+                i += groupLength;
+                continue;
+            }
+
+            Atom atom = atoms[i++];
+            int count = 0;
+            while (count < atom.max && pos < length) {
+                int accepted = atom.accepts(input.charAt(pos));
+                if (accepted == UNDECIDED) {
+                    return UNDECIDED;
+                }
+                if (accepted == NO_MATCH) {
+                    break;
+                }
+                pos++;
+                count++;
+            }
+            if (count < atom.min) {
+                return NO_MATCH;
+            }
+        }
+        return pos == length ? MATCH : NO_MATCH;
+    }
+
+    // Returns the end position, -2 when the fixed sequence does not match, or UNDECIDED
+    private int matchFixed(CharSequence input, int pos, int length, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Atom atom = atoms[i];
+            if (pos + atom.min > length) {
+                return -2;
+            }
+            for (int n = 0; n < atom.min; n++) {
+                int accepted = atom.accepts(input.charAt(pos++));
+                if (accepted != MATCH) {
+                    return accepted == UNDECIDED ? UNDECIDED : -2;
+                }
+            }
+        }
+        return pos;
+    }
+
+    // Thrown by the parser when a pattern is outside the supported subset, and caught only by compile().
+    // Shared and without a stack trace, so falling back to java.util.regex costs no more than a return.
+    private static final class NotSimple extends RuntimeException {
+        static final NotSimple INSTANCE = new NotSimple();
+
+        private NotSimple() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class CharSet {
+        static final int NON_ASCII_NONE = 0;
+        static final int NON_ASCII_ALL = 1;
+        // '.' accepts everything except the line terminators
+        static final int NON_ASCII_DOT = 2;
+
+        long low;
+        long high;
+        int nonAscii;
+
+        void add(char c) {
+            if (c >= 128) {
+                throw NotSimple.INSTANCE;
+            }
+            if (c < 64) {
+                low |= 1L << c;
+            } else {
+                high |= 1L << (c - 64);
+            }
+        }
+
+        void addRange(char from, char to) {
+            if (from > to) {
+                throw NotSimple.INSTANCE;
+            }
+            for (char c = from; c <= to; c++) {
+                add(c);
+            }
+        }
+
+        void addAll(CharSet other) {
+            low |= other.low;
+            high |= other.high;
+            if (other.nonAscii != NON_ASCII_NONE) {
+                nonAscii = nonAscii == NON_ASCII_NONE ? other.nonAscii : NON_ASCII_ALL;
+            }
+        }
+
+        void negate() {
+            if (nonAscii != NON_ASCII_NONE) {
+                throw NotSimple.INSTANCE;
+            }
+            low = ~low;
+            high = ~high;
+            nonAscii = NON_ASCII_ALL;
+        }
+
+        static CharSet of(String chars) {
+            CharSet set = new CharSet();
+            for (int i = 0; i < chars.length(); i++) {
+                set.add(chars.charAt(i));
+            }
+            return set;
+        }
+
+        static CharSet digits() {
+            CharSet set = new CharSet();
+            set.addRange('0', '9');
+            return set;
+        }
+
+        static CharSet word() {
+            CharSet set = digits();
+            set.addRange('a', 'z');
+            set.addRange('A', 'Z');
+            set.add('_');
+            return set;
+        }
+
+        static CharSet whitespace() {
+            return of(" \t\n\u000B\f\r");
+        }
+
+        static CharSet dot() {
+            CharSet set = new CharSet();
+            set.addRange((char) 0, (char) 127);
+            set.low &= ~((1L << '\n') | (1L << '\r'));
+            set.nonAscii = NON_ASCII_DOT;
+            return set;
+        }
+    }
+
+    private static final class Atom {
+        final long low;
+        final long high;
+        final int nonAscii;
+        final int min;
+        final int max;
+
+        Atom(CharSet set, int min, int max) {
+            this.low = set.low;
+            this.high = set.high;
+            this.nonAscii = set.nonAscii;
+            this.min = min;
+            this.max = max;
+        }
+
+        int accepts(char c) {
+            if (c < 64) {
+                return (low & (1L << c)) != 0 ? MATCH : NO_MATCH;
+            }
+            if (c < 128) {
+                return (high & (1L << (c - 64))) != 0 ? MATCH : NO_MATCH;
+            }
+            if (nonAscii == CharSet.NON_ASCII_NONE) {
+                return NO_MATCH;
+            }
+            if (Character.isSurrogate(c)) {
+                return UNDECIDED;
+            }
+            if (nonAscii == CharSet.NON_ASCII_DOT && (c == '\u0085' || c == '\u2028' || c == '\u2029')) {
+                return NO_MATCH;
+            }
+            return MATCH;
+        }
+
+        boolean isVariable() {
+            return min != max;
+        }
+
+        boolean intersects(Atom other) {
+            return (low & other.low) != 0
+                || (high & other.high) != 0
+                || (nonAscii != CharSet.NON_ASCII_NONE && other.nonAscii != CharSet.NON_ASCII_NONE);
+        }
+    }
+
+    private static final class Parser {
+        private final String regex;
+        private final List<Atom> atoms = new ArrayList<>();
+        private final List<Integer> groupLengths = new ArrayList<>();
+        private int pos;
+        private int end;
+
+        Parser(String regex) {
+            this.regex = regex;
+        }
+
+        FastPatternMatcher parse() {
+            end = regex.length();
+            // matches() always spans the whole input, so the anchors carry no meaning
+            if (end > 0 && regex.charAt(0) == '^') {
+                pos = 1;
+            }
+            if (end > pos && regex.charAt(end - 1) == '$' && !isEscaped(end - 1)) {
+                end--;
+            }
+
+            while (pos < end) {
+                if (regex.charAt(pos) == '(') {
+                    parseGroup();
+                } else {
+                    CharSet set = parseAtom();
+                    int[] bounds = parseQuantifier();
+                    addAtom(new Atom(set, bounds[0], bounds[1]), 0);
+                }
+            }
+            checkDeterministic();
+
+            int[] lengths = new int[groupLengths.size()];
+            for (int i = 0; i < lengths.length; i++) {
+                lengths[i] = groupLengths.get(i);
+            }
+            return new FastPatternMatcher(regex, atoms.toArray(new Atom[0]), lengths);
+        }
+
+        private boolean isEscaped(int index) {
+            int backslashes = 0;
+            for (int i = index - 1; i >= 0 && regex.charAt(i) == '\\'; i--) {
+                backslashes++;
+            }
+            return backslashes % 2 == 1;
+        }
+
+        private void addAtom(Atom atom, int groupLength) {
+            atoms.add(atom);
+            groupLengths.add(groupLength);
+        }
+
+        private void parseGroup() {
+            pos++;
+            if (pos < end && regex.charAt(pos) == '?') {
+                if (pos + 1 < end && regex.charAt(pos + 1) == ':') {
+                    pos += 2;
+                } else {
+                    throw NotSimple.INSTANCE;
+                }
+            }
+
+            List<Atom> group = new ArrayList<>();
+            while (pos < end && regex.charAt(pos) != ')') {
+                if (regex.charAt(pos) == '(') {
+                    throw NotSimple.INSTANCE;
+                }
+                CharSet set = parseAtom();
+                int[] bounds = parseQuantifier();
+                group.add(new Atom(set, bounds[0], bounds[1]));
+            }
+            if (pos >= end || group.isEmpty()) {
+                throw NotSimple.INSTANCE;
+            }
+            pos++;
+
+            if (pos < end && regex.charAt(pos) == '?') {
+                pos++;
+                rejectQuantifierModifier();
+                for (int i = 0; i < group.size(); i++) {
+                    Atom atom = group.get(i);
+                    if (atom.isVariable() || atom.min == 0) {
+                        throw NotSimple.INSTANCE;
+                    }
+                    addAtom(atom, i == 0 ? group.size() : 0);
+                }
+            } else if (pos < end && isQuantifierStart(regex.charAt(pos))) {
+                throw NotSimple.INSTANCE;
+            } else {
+                for (Atom atom : group) {
+                    addAtom(atom, 0);
+                }
+            }
+        }
+
+        private CharSet parseAtom() {
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case '\\':
+                    return parseEscape();
+                case '.':
+                    return CharSet.dot();
+                case '[':
+                    return parseClass();
+                case '^': case '$': case '|': case '?': case '*': case '+':
+                case '{': case '}': case '(': case ')': case ']':
+                    throw NotSimple.INSTANCE;
+                default:
+                    CharSet set = new CharSet();
+                    set.add(c);
+                    return set;
+            }
+        }
+
+        private CharSet parseEscape() {
+            if (pos >= end) {
+                throw NotSimple.INSTANCE;
+            }
+            char c = regex.charAt(pos++);
+            CharSet set;
+            switch (c) {
+                case 'd': return CharSet.digits();
+                case 'w': return CharSet.word();
+                case 's': return CharSet.whitespace();
+                case 'D': set = CharSet.digits(); set.negate(); return set;
+                case 'W': set = CharSet.word(); set.negate(); return set;
+                case 'S': set = CharSet.whitespace(); set.negate(); return set;
+                case 't': return CharSet.of("\t");
+                case 'n': return CharSet.of("\n");
+                case 'r': return CharSet.of("\r");
+                case 'f': return CharSet.of("\f");
+                default:
+                    // Only escaped punctuation is a literal; letters and digits have special meanings
+                    if (Character.isLetterOrDigit(c) || c >= 128) {
+                        throw NotSimple.INSTANCE;
+                    }
+                    return CharSet.of(String.valueOf(c));
+            }
+        }
+
+        private CharSet parseClass() {
+            CharSet set = new CharSet();
+            boolean negated = pos < end && regex.charAt(pos) == '^';
+            if (negated) {
+                pos++;
+            }
+            boolean first = true;
+            while (true) {
+                if (pos >= end) {
+                    throw NotSimple.INSTANCE;
+                }
+                char c = regex.charAt(pos);
+                if (c == ']' && !first) {
+                    pos++;
+                    break;
+                }
+                if (c == '[' || c == ']' || (c == '&' && pos + 1 < end && regex.charAt(pos + 1) == '&')) {
+                    throw NotSimple.INSTANCE;
+                }
+                first = false;
+
+                CharSet item;
+                char literal;
+                pos++;
+                if (c == '\\') {
+                    item = parseEscape();
+                    if (Long.bitCount(item.low) + Long.bitCount(item.high) != 1 || item.nonAscii != CharSet.NON_ASCII_NONE) {
+                        set.addAll(item);
+                        continue;
+                    }
+                    literal = (char) (item.low != 0
+                        ? Long.numberOfTrailingZeros(item.low)
+                        : 64 + Long.numberOfTrailingZeros(item.high));
+                } else {
+                    literal = c;
+                }
+
+                if (pos + 1 < end && regex.charAt(pos) == '-' && regex.charAt(pos + 1) != ']') {
+                    pos++;
+                    char to = regex.charAt(pos++);
+                    if (to == '\\') {
+                        CharSet escaped = parseEscape();
+                        if (Long.bitCount(escaped.low) + Long.bitCount(escaped.high) != 1) {
+                            throw NotSimple.INSTANCE;
+                        }
+                        to = (char) (escaped.low != 0
+                            ? Long.numberOfTrailingZeros(escaped.low)
+                            : 64 + Long.numberOfTrailingZeros(escaped.high));
+                    } else if (to == '[') {
+                        throw NotSimple.INSTANCE;
+                    }
+                    set.addRange(literal, to);
+                } else {
+                    set.add(literal);
+                }
+            }
+            if (negated) {
+                set.negate();
+            }
+            return set;
+        }
+
+        private static boolean isQuantifierStart(char c) {
+            return c == '?' || c == '*' || c == '+' || c == '{';
+        }
+
+        private int[] parseQuantifier() {
+            if (pos >= end) {
+                return new int[] {1, 1};
+            }
+            int[] bounds;
+            switch (regex.charAt(pos)) {
+                case '?': pos++; bounds = new int[] {0, 1}; break;
+                case '*': pos++; bounds = new int[] {0, UNBOUNDED}; break;
+                case '+': pos++; bounds = new int[] {1, UNBOUNDED}; break;
+                case '{': bounds = parseBraces(); break;
+                default: return new int[] {1, 1};
+            }
+            rejectQuantifierModifier();
+            return bounds;
+        }
+
+        private void rejectQuantifierModifier() {
+            // Lazy and possessive quantifiers are left to java.util.regex
+            if (pos < end && (regex.charAt(pos) == '?' || regex.charAt(pos) == '+')) {
+                throw NotSimple.INSTANCE;
+            }
+        }
+
+        private int[] parseBraces() {
+            int close = regex.indexOf('}', pos);
+            if (close < 0 || close >= end) {
+                throw NotSimple.INSTANCE;
+            }
+            String body = regex.substring(pos + 1, close);
+            pos = close + 1;
+            try {
+                int comma = body.indexOf(',');
+                if (comma < 0) {
+                    int count = Integer.parseInt(body);
+                    return new int[] {count, count};
+                }
+                int min = Integer.parseInt(body.substring(0, comma));
+                String upper = body.substring(comma + 1);
+                int max = upper.isEmpty() ? UNBOUNDED : Integer.parseInt(upper);
+                if (min > max) {
+                    throw NotSimple.INSTANCE;
+                }
+                return new int[] {min, max};
+            } catch (NumberFormatException e) {
+                throw NotSimple.INSTANCE;
+            }
+        }
+
+        private void checkDeterministic() {
+            int i = 0;
+            while (i < atoms.size()) {
+                int groupLength = groupLengths.get(i);
+                boolean variable = groupLength > 0 || atoms.get(i).isVariable();
+                int next = i + Math.max(groupLength, 1);
+                if (variable && next < atoms.size()) {
+                    Atom following = atoms.get(next);
+                    // The next element must be mandatory and start with a character this one cannot take
+                    if (groupLengths.get(next) > 0 || following.min == 0
+                            || atoms.get(i).intersects(following)) {
+                        throw NotSimple.INSTANCE;
+                    }
+                }
+                i = next;
+            }
+        }
+    }
+}
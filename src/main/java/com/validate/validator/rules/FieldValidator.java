@@ -2,7 +2,20 @@ package com.validate.validator.rules;
 
 import java.util.Map;
 
+// Validators and the RuleChecks they compile are shared by all threads validating against a plan,
+// including the workers of a parallel list validation, so they must be stateless or thread-safe.
 public interface FieldValidator {
     void validate(String field, Object value, Map<String, Object> rule);
     String getType();
-} 
\ No newline at end of file
+
+    // Binds this validator to one rule's parameters. Validators override this to parse the parameters
+    // once and to report violations as codes; the default adapts validate() and its exceptions.
+    default RuleCheck compile(Map<String, Object> rule) {
+        return new LegacyRuleCheck(this, rule);
+    }
+
+    // Plans run a field's rules from the cheapest to the most expensive; see RuleCost
+    default int getCost() {
+        return RuleCost.CUSTOM;
+    }
+}
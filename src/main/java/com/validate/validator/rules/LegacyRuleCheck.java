@@ -0,0 +1,43 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+import java.util.Map;
+
+// Adapts a FieldValidator that only implements the throwing validate() to the RuleCheck contract
+final class LegacyRuleCheck implements RuleCheck {
+    private static final int INVALID = 1;
+
+    private final FieldValidator validator;
+    private final Map<String, Object> rule;
+
+    LegacyRuleCheck(FieldValidator validator, Map<String, Object> rule) {
+        this.validator = validator;
+        this.rule = rule;
+    }
+
+    @Override
+    public int check(Object value) {
+        try {
+            validator.validate("", value, rule);
+            return VALID;
+        } catch (ValidationException e) {
+            return INVALID;
+        }
+    }
+
+    @Override
+    public String message(String field, Object value, int code) {
+        // Validators are expected to be pure, so re-running with the real field name reproduces the message
+        try {
+            validator.validate(field, value, rule);
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+        return field + " is invalid";
+    }
+
+    @Override
+    public void validate(String field, Object value) {
+        validator.validate(field, value, rule);
+    }
+}
@@ -0,0 +1,52 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+// How minLength and maxLength measure a value without building a string: text by its chars, or by its
+// code points when the rule sets codePoints: true, and collections, maps and arrays by their items.
+final class Lengths {
+    static final String CODE_POINTS = "codePoints";
+
+    private Lengths() {
+    }
+
+    static int limit(Map<String, Object> rule, String ruleType) {
+        Object value = rule.get("value");
+        if ((value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+                && ((Number) value).longValue() >= 0 && ((Number) value).longValue() <= Integer.MAX_VALUE) {
+            return ((Number) value).intValue();
+        }
+        throw new ValidationException(ruleType + " rule needs a non-negative integer 'value', got: " + value);
+    }
+
+    static boolean countsCodePoints(Map<String, Object> rule) {
+        return Boolean.TRUE.equals(rule.get(CODE_POINTS));
+    }
+
+    static boolean countsItems(Object value) {
+        return value instanceof Collection || value instanceof Map || value.getClass().isArray();
+    }
+
+    static int items(Object value) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).size();
+        }
+        return Array.getLength(value);
+    }
+
+    // Other values, such as numbers and enums, are measured by their string form as before
+    static CharSequence text(Object value) {
+        return value instanceof CharSequence ? (CharSequence) value : value.toString();
+    }
+
+    static int codePoints(CharSequence text) {
+        return Character.codePointCount(text, 0, text.length());
+    }
+}
@@ -1,21 +1,61 @@
 package com.validate.validator.rules;
 
-import jakarta.validation.ValidationException;
 import java.util.Map;
 
 public class MaxLengthValidator implements FieldValidator {
+    private static final int TOO_LONG = 1;
+
     @Override
     public void validate(String field, Object value, Map<String, Object> rule) {
-        if (value == null) return;
-        
-        int maxLength = ((Number) rule.get("value")).intValue();
-        if (value.toString().length() > maxLength) {
-            throw new ValidationException(field + " must not exceed " + maxLength + " characters");
+        compile(rule).validate(field, value);
+    }
+
+    @Override
+    public RuleCheck compile(Map<String, Object> rule) {
+        return new Check(Lengths.limit(rule, getType()), Lengths.countsCodePoints(rule));
+    }
+
+    private static final class Check implements RuleCheck {
+        private final int maxLength;
+        private final boolean codePoints;
+
+        Check(int maxLength, boolean codePoints) {
+            this.maxLength = maxLength;
+            this.codePoints = codePoints;
         }
+
+        @Override
+        public int check(Object value) {
+            if (value == null) return VALID;
+
+            if (Lengths.countsItems(value)) {
+                return Lengths.items(value) > maxLength ? TOO_LONG : VALID;
+            }
+            CharSequence text = Lengths.text(value);
+            int length = text.length();
+            // A text never has more code points than chars, so only texts that look too long need counting
+            if (codePoints && length > maxLength) {
+                length = Lengths.codePoints(text);
+            }
+            return length > maxLength ? TOO_LONG : VALID;
+        }
+
+        @Override
+        public String message(String field, Object value, int code) {
+            if (value != null && Lengths.countsItems(value)) {
+                return field + " must not have more than " + maxLength + " items";
+            }
+            return field + " must not exceed " + maxLength + " characters";
+        }
+    }
+
+    @Override
+    public int getCost() {
+        return RuleCost.LENGTH;
     }
 
     @Override
     public String getType() {
         return "maxLength";
     }
-} 
\ No newline at end of file
+}
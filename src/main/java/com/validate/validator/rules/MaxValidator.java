@@ -0,0 +1,56 @@
+package com.validate.validator.rules;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class MaxValidator implements FieldValidator {
+    private static final int TOO_LARGE = 1;
+
+    @Override
+    public void validate(String field, Object value, Map<String, Object> rule) {
+        compile(rule).validate(field, value);
+    }
+
+    @Override
+    public RuleCheck compile(Map<String, Object> rule) {
+        return new Check(NumericBound.of(rule, "value", getType()));
+    }
+
+    private static final class Check extends NumericCheck {
+        private final NumericBound max;
+
+        Check(NumericBound max) {
+            this.max = max;
+        }
+
+        @Override
+        public int checkLong(long value) {
+            return max.compare(value) > 0 ? TOO_LARGE : VALID;
+        }
+
+        @Override
+        public int checkDouble(double value) {
+            return Double.isNaN(value) || max.compare(value) > 0 ? TOO_LARGE : VALID;
+        }
+
+        @Override
+        int checkDecimal(BigDecimal value) {
+            return max.compare(value) > 0 ? TOO_LARGE : VALID;
+        }
+
+        @Override
+        String violation(int code) {
+            return " must be at most " + max;
+        }
+    }
+
+    @Override
+    public int getCost() {
+        return RuleCost.NUMERIC;
+    }
+
+    @Override
+    public String getType() {
+        return "max";
+    }
+}
@@ -1,21 +1,61 @@
 package com.validate.validator.rules;
 
-import jakarta.validation.ValidationException;
 import java.util.Map;
 
 public class MinLengthValidator implements FieldValidator {
+    private static final int TOO_SHORT = 1;
+
     @Override
     public void validate(String field, Object value, Map<String, Object> rule) {
-        if (value == null) return;
-        
-        int minLength = ((Number) rule.get("value")).intValue();
-        if (value.toString().length() < minLength) {
-            throw new ValidationException(field + " must be at least " + minLength + " characters");
+        compile(rule).validate(field, value);
+    }
+
+    @Override
+    public RuleCheck compile(Map<String, Object> rule) {
+        return new Check(Lengths.limit(rule, getType()), Lengths.countsCodePoints(rule));
+    }
+
+    private static final class Check implements RuleCheck {
+        private final int minLength;
+        private final boolean codePoints;
+
+        Check(int minLength, boolean codePoints) {
+            this.minLength = minLength;
+            this.codePoints = codePoints;
         }
+
+        @Override
+        public int check(Object value) {
+            if (value == null) return VALID;
+
+            if (Lengths.countsItems(value)) {
+                return Lengths.items(value) < minLength ? TOO_SHORT : VALID;
+            }
+            CharSequence text = Lengths.text(value);
+            int length = text.length();
+            // A text never has more code points than chars, so only long enough texts need counting
+            if (codePoints && length >= minLength) {
+                length = Lengths.codePoints(text);
+            }
+            return length < minLength ? TOO_SHORT : VALID;
+        }
+
+        @Override
+        public String message(String field, Object value, int code) {
+            if (value != null && Lengths.countsItems(value)) {
+                return field + " must have at least " + minLength + " items";
+            }
+            return field + " must be at least " + minLength + " characters";
+        }
+    }
+
+    @Override
+    public int getCost() {
+        return RuleCost.LENGTH;
     }
 
     @Override
     public String getType() {
         return "minLength";
     }
-} 
\ No newline at end of file
+}
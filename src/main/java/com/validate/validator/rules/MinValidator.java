@@ -1,21 +1,56 @@
 package com.validate.validator.rules;
 
-import jakarta.validation.ValidationException;
+import java.math.BigDecimal;
 import java.util.Map;
 
 public class MinValidator implements FieldValidator {
+    private static final int TOO_SMALL = 1;
+
     @Override
     public void validate(String field, Object value, Map<String, Object> rule) {
-        if (value == null) return;
-        
-        int min = ((Number) rule.get("value")).intValue();
-        if (((Number) value).intValue() < min) {
-            throw new ValidationException(field + " must be at least " + min);
+        compile(rule).validate(field, value);
+    }
+
+    @Override
+    public RuleCheck compile(Map<String, Object> rule) {
+        return new Check(NumericBound.of(rule, "value", getType()));
+    }
+
+    private static final class Check extends NumericCheck {
+        private final NumericBound min;
+
+        Check(NumericBound min) {
+            this.min = min;
+        }
+
+        @Override
+        public int checkLong(long value) {
+            return min.compare(value) < 0 ? TOO_SMALL : VALID;
         }
+
+        @Override
+        public int checkDouble(double value) {
+            return Double.isNaN(value) || min.compare(value) < 0 ? TOO_SMALL : VALID;
+        }
+
+        @Override
+        int checkDecimal(BigDecimal value) {
+            return min.compare(value) < 0 ? TOO_SMALL : VALID;
+        }
+
+        @Override
+        String violation(int code) {
+            return " must be at least " + min;
+        }
+    }
+
+    @Override
+    public int getCost() {
+        return RuleCost.NUMERIC;
     }
 
     @Override
     public String getType() {
         return "min";
     }
-} 
\ No newline at end of file
+}
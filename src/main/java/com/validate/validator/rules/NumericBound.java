@@ -0,0 +1,83 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Map;
+
+// A rule parameter such as min: 0.01, kept exactly as a BigDecimal. Comparisons against long and double
+// values use precomputed forms, so checking a primitive allocates nothing.
+final class NumericBound {
+    private final BigDecimal decimal;
+    private final double asDouble;
+    // The bound truncated towards zero, and the sign of what truncation dropped
+    private final long integral;
+    private final int fractionSign;
+    private final boolean fitsLong;
+
+    NumericBound(BigDecimal decimal) {
+        this.decimal = decimal;
+        this.asDouble = decimal.doubleValue();
+        BigInteger truncated = decimal.setScale(0, RoundingMode.DOWN).toBigInteger();
+        this.fitsLong = truncated.bitLength() < Long.SIZE;
+        this.integral = truncated.longValue();
+        this.fractionSign = decimal.subtract(new BigDecimal(truncated)).signum();
+    }
+
+    // Reads a numeric parameter; strings are accepted so money amounts can be written exactly, e.g. "0.10"
+    static NumericBound of(Map<String, Object> rule, String key, String ruleType) {
+        Object value = rule.get(key);
+        try {
+            if (value instanceof BigDecimal) {
+                return new NumericBound((BigDecimal) value);
+            }
+            if (value instanceof BigInteger) {
+                return new NumericBound(new BigDecimal((BigInteger) value));
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return new NumericBound(BigDecimal.valueOf(((Number) value).doubleValue()));
+            }
+            if (value instanceof Number) {
+                return new NumericBound(BigDecimal.valueOf(((Number) value).longValue()));
+            }
+            if (value instanceof String) {
+                return new NumericBound(new BigDecimal(((String) value).trim()));
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new ValidationException(ruleType + " rule needs a numeric '" + key + "', got: " + value);
+    }
+
+    // Negative, zero or positive as the value is below, at or above the bound
+    int compare(long value) {
+        if (!fitsLong) {
+            return -decimal.signum();
+        }
+        if (value != integral) {
+            return value < integral ? -1 : 1;
+        }
+        return -fractionSign;
+    }
+
+    // Primitive comparison, so -0.0 and 0.0 are equal; NaN compares as equal, and checks reject it on
+    // their own
+    int compare(double value) {
+        return value < asDouble ? -1 : value > asDouble ? 1 : 0;
+    }
+
+    int compare(BigDecimal value) {
+        return value.compareTo(decimal);
+    }
+
+    int compareTo(NumericBound other) {
+        return decimal.compareTo(other.decimal);
+    }
+
+    @Override
+    public String toString() {
+        return decimal.toPlainString();
+    }
+}
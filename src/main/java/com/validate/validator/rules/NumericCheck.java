@@ -0,0 +1,56 @@
+package com.validate.validator.rules;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+// Base for the numeric rules. Boxed values are dispatched to the primitive checks by type, so Long,
+// Double and BigDecimal are compared at full precision instead of going through intValue(). Values
+// that are not numbers are a violation of their own; null is left to required.
+abstract class NumericCheck implements RuleCheck {
+    static final int NOT_A_NUMBER = -1;
+
+    @Override
+    public final int check(Object value) {
+        if (value == null) return VALID;
+
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return checkInt(((Number) value).intValue());
+        }
+        if (value instanceof Long) {
+            return checkLong((Long) value);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return checkDouble(((Number) value).doubleValue());
+        }
+        if (value instanceof BigDecimal) {
+            return checkDecimal((BigDecimal) value);
+        }
+        if (value instanceof BigInteger) {
+            return checkDecimal(new BigDecimal((BigInteger) value));
+        }
+        if (value instanceof Number) {
+            return checkDouble(((Number) value).doubleValue());
+        }
+        return NOT_A_NUMBER;
+    }
+
+    @Override
+    public int checkInt(int value) {
+        return checkLong(value);
+    }
+
+    @Override
+    public abstract int checkLong(long value);
+
+    @Override
+    public abstract int checkDouble(double value);
+
+    abstract int checkDecimal(BigDecimal value);
+
+    abstract String violation(int code);
+
+    @Override
+    public final String message(String field, Object value, int code) {
+        return field + (code == NOT_A_NUMBER ? " must be a number" : violation(code));
+    }
+}
@@ -0,0 +1,45 @@
+package com.validate.validator.rules;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Bounded LRU of compiled patterns, so configs registered at runtime cannot grow it without limit
+public class PatternCache {
+    private final int capacity;
+    private final Map<String, Pattern> patterns;
+
+    public PatternCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.patterns = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+                return size() > PatternCache.this.capacity;
+            }
+        };
+    }
+
+    public Pattern get(String regex) {
+        synchronized (patterns) {
+            Pattern pattern = patterns.get(regex);
+            if (pattern == null) {
+                pattern = Pattern.compile(regex);
+                patterns.put(regex, pattern);
+            }
+            return pattern;
+        }
+    }
+
+    public int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
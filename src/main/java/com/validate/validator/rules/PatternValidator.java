@@ -1,27 +1,86 @@
 package com.validate.validator.rules;
 
-import jakarta.validation.ValidationException;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 public class PatternValidator implements FieldValidator {
+    private static final int CACHE_SIZE = 256;
+    private static final int MISMATCH = 1;
+    private final PatternCache patternCache;
+
+    public PatternValidator() {
+        this(new PatternCache(CACHE_SIZE));
+    }
+
+    public PatternValidator(PatternCache patternCache) {
+        this.patternCache = patternCache;
+    }
+
     @Override
     public void validate(String field, Object value, Map<String, Object> rule) {
         if (value == null) return;
 
-        String pattern = (String) rule.get("value");
+        String regex = (String) rule.get("value");
+        new Check(patternCache.get(regex), null, messageFor(rule, regex)).validate(field, value);
+    }
+
+    @Override
+    public RuleCheck compile(Map<String, Object> rule) {
+        String regex = (String) rule.get("value");
+        // Compiled once here, so matching a value never compiles a regex
+        return new Check(patternCache.get(regex), FastPatternMatcher.compile(regex), messageFor(rule, regex));
+    }
+
+    private static String messageFor(Map<String, Object> rule, String regex) {
         String message = (String) rule.get("message");
         
         if (message == null) {
-            message = "must match pattern: " + pattern;
+            message = "must match pattern: " + regex;
+        }
+        return message;
+    }
+
+    private static final class Check implements RuleCheck {
+        private final Pattern pattern;
+        // Null when the regex is outside the subset FastPatternMatcher supports
+        private final FastPatternMatcher fastMatcher;
+        private final String message;
+
+        Check(Pattern pattern, FastPatternMatcher fastMatcher, String message) {
+            this.pattern = pattern;
+            this.fastMatcher = fastMatcher;
+            this.message = message;
+        }
+
+        @Override
+        public int check(Object value) {
+            if (value == null) return VALID;
+
+            CharSequence input = value instanceof CharSequence ? (CharSequence) value : value.toString();
+            int result = fastMatcher == null ? FastPatternMatcher.UNDECIDED : fastMatcher.match(input);
+            if (result == FastPatternMatcher.UNDECIDED) {
+                result = pattern.matcher(input).matches() ? FastPatternMatcher.MATCH : FastPatternMatcher.NO_MATCH;
+            }
+            return result == FastPatternMatcher.MATCH ? VALID : MISMATCH;
         }
 
-        if (!value.toString().matches(pattern)) {
-            throw new ValidationException(field + " " + message);
+        @Override
+        public String message(String field, Object value, int code) {
+            return field + " " + message;
         }
     }
 
+    public PatternCache getPatternCache() {
+        return patternCache;
+    }
+
+    @Override
+    public int getCost() {
+        return RuleCost.PATTERN;
+    }
+
     @Override
     public String getType() {
         return "pattern";
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.validate.validator.rules;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class PositiveValidator implements FieldValidator {
+    private static final int NOT_POSITIVE = 1;
+    private static final RuleCheck CHECK = new NumericCheck() {
+        @Override
+        public int checkLong(long value) {
+            return value > 0 ? VALID : NOT_POSITIVE;
+        }
+
+        @Override
+        public int checkDouble(double value) {
+            return value > 0 ? VALID : NOT_POSITIVE;
+        }
+
+        @Override
+        int checkDecimal(BigDecimal value) {
+            return value.signum() > 0 ? VALID : NOT_POSITIVE;
+        }
+
+        @Override
+        String violation(int code) {
+            return " must be positive";
+        }
+    };
+
+    @Override
+    public void validate(String field, Object value, Map<String, Object> rule) {
+        CHECK.validate(field, value);
+    }
+
+    @Override
+    public RuleCheck compile(Map<String, Object> rule) {
+        return CHECK;
+    }
+
+    @Override
+    public int getCost() {
+        return RuleCost.NUMERIC;
+    }
+
+    @Override
+    public String getType() {
+        return "positive";
+    }
+}
@@ -0,0 +1,119 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+// Limits digits like a DECIMAL(precision, scale) column: { type: precision, precision: 12, scale: 2 }
+// allows at most 2 decimal places and 10 digits before the point. Either parameter may be left out.
+// Trailing zeros do not count, so 10.50 has one decimal place.
+public class PrecisionValidator implements FieldValidator {
+    private static final int TOO_MANY_DECIMALS = 1;
+    private static final int TOO_MANY_DIGITS = 2;
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    @Override
+    public void validate(String field, Object value, Map<String, Object> rule) {
+        compile(rule).validate(field, value);
+    }
+
+    @Override
+    public RuleCheck compile(Map<String, Object> rule) {
+        int precision = param(rule, "precision");
+        int scale = param(rule, "scale");
+        if (precision == UNLIMITED && scale == UNLIMITED) {
+            throw new ValidationException("precision rule needs 'precision', 'scale' or both");
+        }
+        if (precision != UNLIMITED && scale != UNLIMITED && scale > precision) {
+            throw new ValidationException("precision rule has scale " + scale + " above precision " + precision);
+        }
+        return new Check(precision, scale);
+    }
+
+    private static int param(Map<String, Object> rule, String key) {
+        Object value = rule.get(key);
+        if (value == null) {
+            return UNLIMITED;
+        }
+        if (!(value instanceof Integer) || (Integer) value < 0) {
+            throw new ValidationException("precision rule needs a non-negative integer '" + key + "', got: " + value);
+        }
+        return (Integer) value;
+    }
+
+    private static final class Check extends NumericCheck {
+        private final int precision;
+        private final int scale;
+
+        Check(int precision, int scale) {
+            this.precision = precision;
+            this.scale = scale;
+        }
+
+        @Override
+        public int checkLong(long value) {
+            return check(integerDigits(value), 0);
+        }
+
+        // Decimal places of a double are those of its shortest decimal form, as Double.toString prints it
+        @Override
+        public int checkDouble(double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return TOO_MANY_DIGITS;
+            }
+            return checkDecimal(BigDecimal.valueOf(value));
+        }
+
+        @Override
+        int checkDecimal(BigDecimal value) {
+            if (value.signum() == 0) {
+                return VALID;
+            }
+            BigDecimal stripped = value.stripTrailingZeros();
+            int decimals = Math.max(0, stripped.scale());
+            return check(Math.max(0, stripped.precision() - stripped.scale()), decimals);
+        }
+
+        private int check(int integerDigits, int decimals) {
+            if (scale != UNLIMITED && decimals > scale) {
+                return TOO_MANY_DECIMALS;
+            }
+            if (precision != UNLIMITED
+                    && integerDigits + (scale == UNLIMITED ? decimals : scale) > precision) {
+                return TOO_MANY_DIGITS;
+            }
+            return VALID;
+        }
+
+        private static int integerDigits(long value) {
+            int digits = 0;
+            // Counted on the negative side, which also holds Long.MIN_VALUE
+            for (long v = value > 0 ? -value : value; v != 0; v /= 10) {
+                digits++;
+            }
+            return digits;
+        }
+
+        @Override
+        String violation(int code) {
+            if (code == TOO_MANY_DECIMALS) {
+                return " must have at most " + scale + " decimal places";
+            }
+            if (scale == UNLIMITED) {
+                return " must have at most " + precision + " digits";
+            }
+            return " must have at most " + (precision - scale) + " digits before the decimal point";
+        }
+    }
+
+    @Override
+    public int getCost() {
+        return RuleCost.NUMERIC;
+    }
+
+    @Override
+    public String getType() {
+        return "precision";
+    }
+}
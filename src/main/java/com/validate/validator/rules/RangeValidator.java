@@ -0,0 +1,66 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+// Both bounds are inclusive: { type: range, min: 1, max: 100 }
+public class RangeValidator implements FieldValidator {
+    private static final int OUT_OF_RANGE = 1;
+
+    @Override
+    public void validate(String field, Object value, Map<String, Object> rule) {
+        compile(rule).validate(field, value);
+    }
+
+    @Override
+    public RuleCheck compile(Map<String, Object> rule) {
+        NumericBound min = NumericBound.of(rule, "min", getType());
+        NumericBound max = NumericBound.of(rule, "max", getType());
+        if (min.compareTo(max) > 0) {
+            throw new ValidationException("range rule has min " + min + " above max " + max);
+        }
+        return new Check(min, max);
+    }
+
+    private static final class Check extends NumericCheck {
+        private final NumericBound min;
+        private final NumericBound max;
+
+        Check(NumericBound min, NumericBound max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public int checkLong(long value) {
+            return min.compare(value) < 0 || max.compare(value) > 0 ? OUT_OF_RANGE : VALID;
+        }
+
+        @Override
+        public int checkDouble(double value) {
+            return Double.isNaN(value) || min.compare(value) < 0 || max.compare(value) > 0 ? OUT_OF_RANGE : VALID;
+        }
+
+        @Override
+        int checkDecimal(BigDecimal value) {
+            return min.compare(value) < 0 || max.compare(value) > 0 ? OUT_OF_RANGE : VALID;
+        }
+
+        @Override
+        String violation(int code) {
+            return " must be between " + min + " and " + max;
+        }
+    }
+
+    @Override
+    public int getCost() {
+        return RuleCost.NUMERIC;
+    }
+
+    @Override
+    public String getType() {
+        return "range";
+    }
+}
@@ -1,18 +1,54 @@
 package com.validate.validator.rules;
 
-import jakarta.validation.ValidationException;
 import java.util.Map;
 
 public class RequiredValidator implements FieldValidator {
+    private static final int MISSING = 1;
+    private static final RuleCheck CHECK = new RuleCheck() {
+        @Override
+        public int check(Object value) {
+            return value == null ? MISSING : VALID;
+        }
+
+        // A primitive is never missing
+        @Override
+        public int checkInt(int value) {
+            return VALID;
+        }
+
+        @Override
+        public int checkLong(long value) {
+            return VALID;
+        }
+
+        @Override
+        public int checkDouble(double value) {
+            return VALID;
+        }
+
+        @Override
+        public String message(String field, Object value, int code) {
+            return field + " is required";
+        }
+    };
+
     @Override
     public void validate(String field, Object value, Map<String, Object> rule) {
-        if (value == null) {
-            throw new ValidationException(field + " is required");
-        }
+        CHECK.validate(field, value);
+    }
+
+    @Override
+    public RuleCheck compile(Map<String, Object> rule) {
+        return CHECK;
+    }
+
+    @Override
+    public int getCost() {
+        return RuleCost.NULL_CHECK;
     }
 
     @Override
     public String getType() {
         return "required";
     }
-} 
\ No newline at end of file
+}
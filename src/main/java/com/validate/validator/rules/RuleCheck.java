@@ -0,0 +1,34 @@
+package com.validate.validator.rules;
+
+// A FieldValidator bound to one rule's parameters. check() reports a violation as a code instead of
+// throwing, so rejecting a value costs about the same as accepting it; the message is only built
+// when someone asks for it.
+public interface RuleCheck {
+    int VALID = 0;
+
+    // Returns VALID, or a non-zero code identifying the violation
+    int check(Object value);
+
+    String message(String field, Object value, int code);
+
+    // Primitive fields are checked through these, so numeric rules can compare without boxing. The
+    // defaults box the value as the field's own wrapper type and call check().
+    default int checkInt(int value) {
+        return check(value);
+    }
+
+    default int checkLong(long value) {
+        return check(value);
+    }
+
+    default int checkDouble(double value) {
+        return check(value);
+    }
+
+    default void validate(String field, Object value) {
+        int code = check(value);
+        if (code != VALID) {
+            throw new RuleViolationException(this, field, value, code);
+        }
+    }
+}
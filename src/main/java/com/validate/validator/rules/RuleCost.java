@@ -0,0 +1,14 @@
+package com.validate.validator.rules;
+
+// Rough relative costs of checking one value, used to run cheap rules before expensive ones
+public final class RuleCost {
+    public static final int NULL_CHECK = 1;
+    public static final int LENGTH = 2;
+    public static final int NUMERIC = 4;
+    public static final int PATTERN = 50;
+    // Anything registered through the SPI that does not say otherwise
+    public static final int CUSTOM = 100;
+
+    private RuleCost() {
+    }
+}
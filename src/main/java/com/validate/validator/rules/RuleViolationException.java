@@ -0,0 +1,49 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+
+// Stackless: violations are expected outcomes, and clients sending floods of invalid payloads should not
+// pay for a stack walk. The message is formatted on first access.
+public class RuleViolationException extends ValidationException {
+    private final transient RuleCheck check;
+    private final String field;
+    private final transient Object value;
+    private final int code;
+    private String message;
+
+    public RuleViolationException(String message) {
+        this.check = null;
+        this.field = null;
+        this.value = null;
+        this.code = RuleCheck.VALID;
+        this.message = message;
+    }
+
+    public RuleViolationException(RuleCheck check, String field, Object value, int code) {
+        this.check = check;
+        this.field = field;
+        this.value = value;
+        this.code = code;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null && check != null) {
+            message = check.message(field, value, code);
+        }
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
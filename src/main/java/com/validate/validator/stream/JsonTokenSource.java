@@ -0,0 +1,297 @@
+package com.validate.validator.stream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+// Minimal RFC 8259 tokenizer; reads through a fixed buffer and tracks only the open containers
+public class JsonTokenSource implements TokenSource {
+    private static final int END_OF_INPUT = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int line = 1;
+
+    // Per open container: true for an object
+    private boolean[] isObject = new boolean[16];
+    private int depth;
+    // True right after '{' or '[' (no comma needed), and after ':' inside an object
+    private boolean atContainerStart;
+    private boolean afterColon;
+    private boolean rootDone;
+
+    private final StringBuilder text = new StringBuilder();
+    private String fieldName;
+    private Object value;
+
+    public JsonTokenSource(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Token next() throws IOException {
+        int c = skipWhitespace();
+        if (depth == 0 && rootDone) {
+            if (c != END_OF_INPUT) {
+                throw error("Unexpected data after the root value");
+            }
+            return Token.END;
+        }
+        if (c == END_OF_INPUT) {
+            throw error("Unexpected end of input");
+        }
+
+        if (c == '}' || c == ']') {
+            boolean object = c == '}';
+            if (depth == 0 || isObject[depth - 1] != object || afterColon) {
+                throw error("Unexpected '" + (char) c + "'");
+            }
+            position++;
+            depth--;
+            atContainerStart = false;
+            rootDone = depth == 0;
+            return object ? Token.END_OBJECT : Token.END_ARRAY;
+        }
+
+        if (depth > 0 && !atContainerStart && !afterColon) {
+            if (c != ',') {
+                throw error("Expected ',' or a closing bracket");
+            }
+            position++;
+            c = skipWhitespace();
+        }
+        atContainerStart = false;
+
+        if (depth > 0 && isObject[depth - 1] && !afterColon) {
+            if (c != '"') {
+                throw error("Expected a field name");
+            }
+            position++;
+            fieldName = readString();
+            if (skipWhitespace() != ':') {
+                throw error("Expected ':'");
+            }
+            position++;
+            afterColon = true;
+            return Token.FIELD_NAME;
+        }
+        afterColon = false;
+
+        switch (c) {
+            case '{':
+                position++;
+                push(true);
+                return Token.START_OBJECT;
+            case '[':
+                position++;
+                push(false);
+                return Token.START_ARRAY;
+            case '"':
+                position++;
+                value = readString();
+                break;
+            case 't':
+                expectLiteral("true");
+                value = Boolean.TRUE;
+                break;
+            case 'f':
+                expectLiteral("false");
+                value = Boolean.FALSE;
+                break;
+            case 'n':
+                expectLiteral("null");
+                value = null;
+                break;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    value = readNumber();
+                } else {
+                    throw error("Unexpected '" + (char) c + "'");
+                }
+        }
+        rootDone = depth == 0;
+        return Token.VALUE;
+    }
+
+    private void push(boolean object) {
+        if (depth == isObject.length) {
+            isObject = Arrays.copyOf(isObject, depth * 2);
+        }
+        isObject[depth++] = object;
+        atContainerStart = true;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END_OF_INPUT;
+            }
+        }
+        return buffer[position];
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c != END_OF_INPUT) {
+            position++;
+        }
+        return c;
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            int c = peek();
+            if (c == ' ' || c == '\t' || c == '\r') {
+                position++;
+            } else if (c == '\n') {
+                line++;
+                position++;
+            } else {
+                return c;
+            }
+        }
+    }
+
+    private void expectLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (read() != literal.charAt(i)) {
+                throw error("Expected '" + literal + "'");
+            }
+        }
+    }
+
+    private String readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == END_OF_INPUT) {
+                throw error("Unterminated string");
+            } else if (c == '"') {
+                return text.toString();
+            } else if (c == '\\') {
+                readEscape();
+            } else if (c < 0x20) {
+                throw error("Control character in string");
+            } else {
+                text.append((char) c);
+            }
+        }
+    }
+
+    private void readEscape() throws IOException {
+        int c = read();
+        switch (c) {
+            case '"': text.append('"'); break;
+            case '\\': text.append('\\'); break;
+            case '/': text.append('/'); break;
+            case 'b': text.append('\b'); break;
+            case 'f': text.append('\f'); break;
+            case 'n': text.append('\n'); break;
+            case 'r': text.append('\r'); break;
+            case 't': text.append('\t'); break;
+            case 'u':
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw error("Invalid unicode escape");
+                    }
+                    code = code * 16 + digit;
+                }
+                text.append((char) code);
+                break;
+            default:
+                throw error("Invalid escape");
+        }
+    }
+
+    // -? (0 | [1-9][0-9]*) (. [0-9]+)? ([eE] [+-]? [0-9]+)?, as RFC 8259 has it; no leading zeros, and
+    // a '.' or exponent must be followed by digits
+    private Object readNumber() throws IOException {
+        text.setLength(0);
+        boolean integral = true;
+        if (peek() == '-') {
+            text.append((char) read());
+        }
+        if (peek() == '0') {
+            text.append((char) read());
+            if (isDigit(peek())) {
+                throw invalidNumber();
+            }
+        } else {
+            readDigits();
+        }
+        if (peek() == '.') {
+            integral = false;
+            text.append((char) read());
+            readDigits();
+        }
+        if (peek() == 'e' || peek() == 'E') {
+            integral = false;
+            text.append((char) read());
+            if (peek() == '+' || peek() == '-') {
+                text.append((char) read());
+            }
+            readDigits();
+        }
+        try {
+            if (integral) {
+                BigInteger number = new BigInteger(text.toString());
+                return number.bitLength() < 64 ? (Object) number.longValue() : number;
+            }
+            return new BigDecimal(text.toString());
+        } catch (NumberFormatException e) {
+            throw invalidNumber();
+        }
+    }
+
+    // At least one digit
+    private void readDigits() throws IOException {
+        if (!isDigit(peek())) {
+            throw invalidNumber();
+        }
+        while (isDigit(peek())) {
+            text.append((char) read());
+        }
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private IOException invalidNumber() throws IOException {
+        // Include the rest of the token in the message
+        int c = peek();
+        while (isDigit(c) || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+            text.append((char) read());
+            c = peek();
+        }
+        return error("Invalid number '" + text + "'");
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " at line " + line);
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,277 @@
+package com.validate.validator.stream;
+
+import com.validate.validator.plan.CompiledRule;
+import com.validate.validator.plan.FieldPlan;
+import com.validate.validator.plan.ValidationPlan;
+import com.validate.validator.rules.RuleCheck;
+import com.validate.validator.rules.RuleViolationException;
+import jakarta.validation.ValidationException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+
+// Validates a JSON or YAML payload token by token against a compiled plan, without binding it to a model
+// class first. Memory is proportional to the nesting depth, and the first violation stops the read, so an
+// invalid payload is rejected before the rest of it is parsed.
+//
+// Differences from ObjectValidator: violations surface in document order rather than plan order, a field
+// listed twice in a plan is checked against its first entry only, and list-level rules other than
+// required are not applied because the list is never materialised.
+public class StreamingValidator {
+
+    public void validateJson(Reader json, ValidationPlan plan) {
+        try (TokenSource tokens = new JsonTokenSource(json)) {
+            validate(tokens, plan);
+        } catch (IOException e) {
+            throw malformed(e);
+        }
+    }
+
+    public void validateYaml(Reader yaml, ValidationPlan plan) {
+        try (TokenSource tokens = new YamlTokenSource(yaml)) {
+            validate(tokens, plan);
+        } catch (IOException e) {
+            throw malformed(e);
+        }
+    }
+
+    // Reads tokens until the root value is complete; the caller owns and closes the source
+    public void validate(TokenSource tokens, ValidationPlan plan) {
+        try {
+            new Walk(tokens).run(plan);
+        } catch (IOException e) {
+            throw malformed(e);
+        }
+    }
+
+    private static ValidationException malformed(IOException e) {
+        return new ValidationException("Malformed payload: " + e.getMessage(), e);
+    }
+
+    private static RuleViolationException violation(String message) {
+        return new RuleViolationException(message);
+    }
+
+    private static final class Frame {
+        // Object frames: the plan for the object's fields, and which of them have been seen
+        ValidationPlan plan;
+        boolean[] seen = new boolean[8];
+        FieldPlan pending;
+        // Array frames: the list field and how many items it had
+        FieldPlan list;
+        int itemCount;
+
+        void startObject(ValidationPlan plan) {
+            this.plan = plan;
+            this.list = null;
+            this.pending = null;
+            int size = plan.getFields().size();
+            if (seen.length < size) {
+                seen = new boolean[size];
+            } else {
+                Arrays.fill(seen, 0, size, false);
+            }
+        }
+
+        void startArray(FieldPlan list) {
+            this.plan = null;
+            this.list = list;
+            this.itemCount = 0;
+        }
+    }
+
+    private static final class Walk {
+        private final TokenSource tokens;
+        private Frame[] frames = new Frame[8];
+        private int depth;
+
+        Walk(TokenSource tokens) {
+            this.tokens = tokens;
+        }
+
+        void run(ValidationPlan plan) throws IOException {
+            TokenSource.Token token = tokens.next();
+            if (token != TokenSource.Token.START_OBJECT) {
+                throw violation("Object cannot be null");
+            }
+            push().startObject(plan);
+
+            while (depth > 0) {
+                token = tokens.next();
+                Frame top = frames[depth - 1];
+                switch (token) {
+                    case FIELD_NAME:
+                        onFieldName(top);
+                        break;
+                    case VALUE:
+                        if (top.list != null) {
+                            onItem(top, token);
+                        } else {
+                            onValue(top.pending, tokens.getValue());
+                        }
+                        break;
+                    case START_OBJECT:
+                    case START_ARRAY:
+                        if (top.list != null) {
+                            onItem(top, token);
+                        } else {
+                            onContainer(top.pending, token);
+                        }
+                        break;
+                    case END_OBJECT:
+                        checkMissingFields(top);
+                        depth--;
+                        break;
+                    case END_ARRAY:
+                        if (top.list.isRequired() && top.itemCount == 0) {
+                            throw violation("Required list cannot be empty");
+                        }
+                        depth--;
+                        break;
+                    default:
+                        throw new IOException("Unexpected end of input");
+                }
+            }
+        }
+
+        private void onFieldName(Frame top) throws IOException {
+            int index = top.plan.indexOf(tokens.getFieldName());
+            if (index < 0 || top.seen[index]) {
+                top.pending = null;
+                skipValue(tokens.next());
+                return;
+            }
+            top.seen[index] = true;
+            top.pending = top.plan.getFields().get(index);
+        }
+
+        private void onValue(FieldPlan field, Object value) {
+            switch (field.getKind()) {
+                case OBJECT:
+                    if (value != null) {
+                        throw violation(field.getName() + " must be an object");
+                    }
+                    checkMissing(field);
+                    break;
+                case LIST:
+                    if (value != null) {
+                        throw violation(field.getName() + " must be a list");
+                    }
+                    checkMissing(field);
+                    break;
+                default:
+                    applyRules(field, value);
+            }
+        }
+
+        private void onContainer(FieldPlan field, TokenSource.Token token) throws IOException {
+            boolean object = token == TokenSource.Token.START_OBJECT;
+            if (field.getKind() == FieldPlan.Kind.VALUE) {
+                throw violation(field.getName() + " must be a scalar value");
+            }
+            if (field.getKind() == FieldPlan.Kind.OBJECT) {
+                if (!object) {
+                    throw violation(field.getName() + " must be an object");
+                }
+                if (field.getNested() == null) {
+                    skipValue(token);
+                } else {
+                    push().startObject(field.getNested());
+                }
+                return;
+            }
+            if (object) {
+                throw violation(field.getName() + " must be a list");
+            }
+            push().startArray(field);
+        }
+
+        private void onItem(Frame array, TokenSource.Token token) throws IOException {
+            array.itemCount++;
+            ValidationPlan itemPlan = array.list.getNested();
+            if (itemPlan == null) {
+                skipValue(token);
+            } else if (token == TokenSource.Token.START_OBJECT) {
+                push().startObject(itemPlan);
+            } else if (token == TokenSource.Token.VALUE && tokens.getValue() == null) {
+                throw violation("Object cannot be null");
+            } else {
+                throw violation(array.list.getName() + " items must be objects");
+            }
+        }
+
+        private void checkMissingFields(Frame top) {
+            List<FieldPlan> fields = top.plan.getFields();
+            for (int i = 0; i < fields.size(); i++) {
+                if (!top.seen[i] && top.plan.indexOf(fields.get(i).getName()) == i) {
+                    FieldPlan field = fields.get(i);
+                    if (field.getKind() == FieldPlan.Kind.VALUE) {
+                        applyRules(field, null);
+                    } else {
+                        checkMissing(field);
+                    }
+                }
+            }
+        }
+
+        private void checkMissing(FieldPlan field) {
+            if (!field.isRequired()) {
+                return;
+            }
+            throw violation(field.getKind() == FieldPlan.Kind.OBJECT
+                ? "Required nested object cannot be null"
+                : "Required list cannot be null");
+        }
+
+        private void applyRules(FieldPlan field, Object value) {
+            List<CompiledRule> rules = field.getRules();
+            for (int i = 0; i < rules.size(); i++) {
+                RuleCheck check = rules.get(i).getCheck();
+                int code = check.check(value);
+                if (code != RuleCheck.VALID) {
+                    throw new RuleViolationException(check, field.getName(), value, code);
+                }
+            }
+        }
+
+        // Consumes the rest of a value whose first token has been read
+        private void skipValue(TokenSource.Token first) throws IOException {
+            int nesting = 0;
+            TokenSource.Token token = first;
+            while (true) {
+                switch (token) {
+                    case START_OBJECT:
+                    case START_ARRAY:
+                        nesting++;
+                        break;
+                    case END_OBJECT:
+                    case END_ARRAY:
+                        nesting--;
+                        break;
+                    case END:
+                        throw new IOException("Unexpected end of input");
+                    default:
+                }
+                if (nesting == 0 && token != TokenSource.Token.FIELD_NAME) {
+                    return;
+                }
+                token = tokens.next();
+            }
+        }
+
+        private Frame push() {
+            if (depth == frames.length) {
+                frames = Arrays.copyOf(frames, depth * 2);
+            }
+            Frame frame = frames[depth];
+            if (frame == null) {
+                frame = new Frame();
+                frames[depth] = frame;
+            }
+            depth++;
+            return frame;
+        }
+    }
+}
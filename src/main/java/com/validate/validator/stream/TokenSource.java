@@ -0,0 +1,18 @@
+package com.validate.validator.stream;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// A pull tokenizer over a JSON or YAML payload. Implementations keep memory proportional to the
+// nesting depth and expose each scalar only while it is the current token.
+public interface TokenSource extends Closeable {
+    enum Token { START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, FIELD_NAME, VALUE, END }
+
+    Token next() throws IOException;
+
+    // The current FIELD_NAME
+    String getFieldName();
+
+    // The current VALUE: a String, Boolean, Long, BigInteger or BigDecimal, or null
+    Object getValue();
+}
@@ -0,0 +1,144 @@
+package com.validate.validator.stream;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+
+// Turns SnakeYAML parser events into tokens without building the document tree
+public class YamlTokenSource implements TokenSource {
+    private static final Resolver RESOLVER = new Resolver();
+
+    private final Reader reader;
+    private final Iterator<Event> events;
+    // Per open container: true for a mapping that expects a key next
+    private boolean[] expectingKey = new boolean[16];
+    private boolean[] isMapping = new boolean[16];
+    private int depth;
+    private boolean started;
+    private String fieldName;
+    private Object value;
+
+    public YamlTokenSource(Reader reader) {
+        this.reader = reader;
+        this.events = new Yaml().parse(reader).iterator();
+    }
+
+    @Override
+    public Token next() throws IOException {
+        while (events.hasNext()) {
+            Event event = events.next();
+            switch (event.getEventId()) {
+                case MappingStart:
+                    valueStarted();
+                    push(true);
+                    return Token.START_OBJECT;
+                case SequenceStart:
+                    valueStarted();
+                    push(false);
+                    return Token.START_ARRAY;
+                case MappingEnd:
+                    depth--;
+                    valueCompleted();
+                    return Token.END_OBJECT;
+                case SequenceEnd:
+                    depth--;
+                    valueCompleted();
+                    return Token.END_ARRAY;
+                case Scalar:
+                    ScalarEvent scalar = (ScalarEvent) event;
+                    if (depth > 0 && isMapping[depth - 1] && expectingKey[depth - 1]) {
+                        expectingKey[depth - 1] = false;
+                        fieldName = scalar.getValue();
+                        return Token.FIELD_NAME;
+                    }
+                    valueStarted();
+                    value = convert(scalar);
+                    valueCompleted();
+                    return Token.VALUE;
+                case Alias:
+                    throw new IOException("YAML aliases are not supported in streamed payloads");
+                case DocumentEnd:
+                    return Token.END;
+                default:
+                    // Stream and document start events carry no data
+            }
+        }
+        return Token.END;
+    }
+
+    private void valueStarted() throws IOException {
+        if (depth == 0) {
+            if (started) {
+                throw new IOException("Only one root value is supported");
+            }
+            started = true;
+        } else if (isMapping[depth - 1] && expectingKey[depth - 1]) {
+            throw new IOException("Only scalar mapping keys are supported");
+        }
+    }
+
+    private void valueCompleted() {
+        if (depth > 0 && isMapping[depth - 1]) {
+            expectingKey[depth - 1] = true;
+        }
+    }
+
+    private void push(boolean mapping) {
+        if (depth == isMapping.length) {
+            isMapping = Arrays.copyOf(isMapping, depth * 2);
+            expectingKey = Arrays.copyOf(expectingKey, depth * 2);
+        }
+        isMapping[depth] = mapping;
+        expectingKey[depth++] = mapping;
+    }
+
+    private static Object convert(ScalarEvent scalar) {
+        String text = scalar.getValue();
+        if (!scalar.getImplicit().canOmitTagInPlainScalar() || scalar.getTag() != null) {
+            return text;
+        }
+        Tag tag = RESOLVER.resolve(NodeId.scalar, text, true);
+        try {
+            if (Tag.NULL.equals(tag)) {
+                return null;
+            } else if (Tag.BOOL.equals(tag)) {
+                String lower = text.toLowerCase();
+                return lower.equals("true") || lower.equals("yes") || lower.equals("on") || lower.equals("y");
+            } else if (Tag.INT.equals(tag)) {
+                String digits = text.replace("_", "");
+                BigInteger number = new BigInteger(digits);
+                return number.bitLength() < 64 ? (Object) number.longValue() : number;
+            } else if (Tag.FLOAT.equals(tag)) {
+                return new BigDecimal(text.replace("_", ""));
+            }
+        } catch (NumberFormatException e) {
+            // Octal, hex, sexagesimal and .inf/.nan forms are passed through as text
+        }
+        return text;
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
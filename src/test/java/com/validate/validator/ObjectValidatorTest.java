@@ -5,11 +5,27 @@ import com.validate.model.Order;
 import com.validate.model.OrderItem;
 import com.validate.model.ShippingAddress;
 import com.validate.validator.config.ValidationConfig;
+import com.validate.validator.plan.ValidationPlan;
+import com.validate.validator.rules.FieldValidator;
 import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import javax.tools.ToolProvider;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -64,6 +80,398 @@ class ObjectValidatorTest {
         assertTrue(exception.getMessage().contains("quantity"));
     }
 
+    @Test
+    void shouldCollectAllViolations_WithFieldPaths() {
+        order.setOrderId("INVALID");
+        order.getCustomer().setEmail("invalid-email");
+        OrderItem second = new OrderItem();
+        second.setProductId("PROD-002");
+        second.setQuantity(0);
+        order.setItems(Arrays.asList(order.getItems().get(0), second));
+
+        ValidationResult result = validator.validate(order, validations);
+
+        assertFalse(result.isValid());
+        List<Violation> violations = result.getViolations();
+        assertEquals(3, violations.size());
+        assertEquals("orderId", violations.get(0).getPath());
+        assertEquals("pattern", violations.get(0).getRuleType());
+        assertEquals("customer.email", violations.get(1).getPath());
+        assertEquals("items[1].quantity", violations.get(2).getPath());
+        assertEquals("min", violations.get(2).getRuleType());
+        assertEquals("quantity must be at least 1", violations.get(2).getMessage());
+    }
+
+    @Test
+    void shouldReturnSharedValidResult_WhenAllFieldsValid() {
+        assertSame(ValidationResult.valid(), validator.validate(order, validations));
+    }
+
+    @Test
+    void shouldCollectRequiredViolation_WhenCustomerNull() {
+        order.setCustomer(null);
+
+        ValidationResult result = validator.validate(order, validations);
+
+        assertEquals(1, result.getViolations().size());
+        assertEquals("customer", result.getViolations().get(0).getPath());
+        assertEquals("Required nested object cannot be null", result.getViolations().get(0).getMessage());
+    }
+
+    @Test
+    void shouldKeepOtherViolations_WhenChangedFieldRevalidated() {
+        ValidationPlan plan = validator.compile(validations);
+        order.setOrderId("INVALID");
+        order.getCustomer().setEmail("invalid-email");
+        ValidationResult previous = validator.validate(order, plan);
+
+        order.getCustomer().setEmail("john@example.com");
+        ValidationResult result = validator.revalidate(order, plan, previous, List.of("customer.email"));
+
+        assertEquals(1, result.getViolations().size());
+        assertEquals("orderId", result.getViolations().get(0).getPath());
+    }
+
+    @Test
+    void shouldMatchFullValidation_WhenChangedItemsRevalidated() {
+        ValidationPlan plan = validator.compile(validations);
+        order.getCustomer().setEmail("invalid-email");
+        OrderItem second = new OrderItem();
+        second.setProductId("PROD-002");
+        second.setQuantity(3);
+        order.setItems(Arrays.asList(order.getItems().get(0), second));
+        ValidationResult previous = validator.validate(order, plan);
+
+        order.setOrderId("INVALID");
+        second.setQuantity(0);
+        ValidationResult result = validator.revalidate(order, plan, previous,
+            List.of("items[1].quantity", "orderId"));
+
+        assertEquals(validator.validate(order, plan).toString(), result.toString());
+    }
+
+    @Test
+    void shouldSkipUnchangedFields_WhenRevalidating() {
+        ValidationPlan plan = validator.compile(validations);
+        ValidationResult previous = validator.validate(order, plan);
+
+        order.setOrderId("INVALID");
+        ValidationResult result = validator.revalidate(order, plan, previous, List.of("customer.email", "notes"));
+
+        assertTrue(result.isValid());
+    }
+
+    @Test
+    void shouldRevalidateWholeList_WhenChangedIndexNoLongerExists() {
+        ValidationPlan plan = validator.compile(validations);
+        OrderItem second = new OrderItem();
+        second.setProductId("PROD-002");
+        second.setQuantity(0);
+        order.setItems(Arrays.asList(order.getItems().get(0), second));
+        ValidationResult previous = validator.validate(order, plan);
+
+        order.setItems(Arrays.asList(order.getItems().get(0)));
+        ValidationResult result = validator.revalidate(order, plan, previous, List.of("items[1].quantity"));
+
+        assertTrue(result.isValid());
+    }
+
+    @Test
+    void shouldThrowException_WhenChangedPathMalformed() {
+        ValidationPlan plan = validator.compile(validations);
+
+        assertThrows(ValidationException.class, () ->
+            validator.revalidate(order, plan, ValidationResult.valid(), List.of("items[x]")));
+    }
+
+    @Test
+    void shouldAdaptThrowingValidator_WhenCollectingViolations() {
+        validator.getValidatorRegistry().registerValidator(new FieldValidator() {
+            @Override
+            public void validate(String field, Object value, Map<String, Object> rule) {
+                if (!"ORD-000000".equals(value)) {
+                    throw new ValidationException(field + " must be the test order");
+                }
+            }
+
+            @Override
+            public String getType() {
+                return "testOrder";
+            }
+        });
+        List<Map<String, Object>> validations = Collections.singletonList(
+            createFieldValidation("orderId", Collections.singletonList(createRule("testOrder", null, null))));
+
+        ValidationResult result = validator.validate(order, validations);
+
+        assertEquals(1, result.getViolations().size());
+        assertEquals("orderId must be the test order", result.getViolations().get(0).getMessage());
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validateObject(order, validations)
+        );
+        assertEquals("orderId must be the test order", exception.getMessage());
+    }
+
+    @Test
+    void shouldReportViolationsInIndexOrder_WhenListValidatedInParallel() {
+        validator.setParallelThreshold(100);
+        order.setItems(createItems(10_000, 1234, 7777, 9999));
+
+        ValidationResult result = validator.validate(order, validations);
+
+        assertEquals(3, result.getViolations().size());
+        assertEquals("items[1234].quantity", result.getViolations().get(0).getPath());
+        assertEquals("items[7777].quantity", result.getViolations().get(1).getPath());
+        assertEquals("items[9999].quantity", result.getViolations().get(2).getPath());
+    }
+
+    @Test
+    void shouldThrowFirstViolationByIndex_WhenListValidatedInParallel() {
+        order.setItems(createItems(10_000, 4321, 9000));
+        Map<String, Object> itemsValidation = validations.get(2);
+        itemsValidation.put("parallelThreshold", 1000);
+        itemsValidation.put("itemValidations", Collections.singletonList(
+            createFieldValidation("productId", Collections.singletonList(createRule("pattern", "^PROD-\\d+$", null)))));
+
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validateObject(order, validations)
+        );
+        assertEquals("productId must match pattern: ^PROD-\\d+$", exception.getMessage());
+        ValidationResult result = validator.validate(order, validations);
+        assertEquals("items[4321].productId", result.getViolations().get(0).getPath());
+    }
+
+    @Test
+    void shouldStreamResultsInOrder_WhenValidatingBatch() {
+        ValidationPlan plan = validator.compile(validations);
+        Order invalid = createValidOrder();
+        invalid.setOrderId("INVALID");
+
+        List<ValidationResult> results = validator.validateAll(Arrays.asList(order, invalid, order), plan)
+            .collect(Collectors.toList());
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isValid());
+        assertEquals("orderId", results.get(1).getViolations().get(0).getPath());
+        assertTrue(results.get(2).isValid());
+    }
+
+    @Test
+    void shouldKeepEncounterOrder_WhenValidatingBatchInParallel() {
+        ValidationPlan plan = validator.compile(validations);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            Order next = createValidOrder();
+            if (i % 1000 == 7) {
+                next.setOrderId("INVALID-" + i);
+            }
+            orders.add(next);
+        }
+
+        List<ValidationResult> results = validator.validateAll(orders, plan, true).collect(Collectors.toList());
+
+        assertEquals(5_000, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i % 1000 != 7, results.get(i).isValid(), "order " + i);
+        }
+    }
+
+    @Test
+    void shouldBoundReadAhead_WhenValidatingBatchInParallel() {
+        ValidationPlan plan = validator.compile(validations);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        validator.setParallelExecutor(pool);
+        AtomicLong read = new AtomicLong();
+        Iterable<Order> source = () -> Stream.generate(() -> {
+            read.incrementAndGet();
+            return createValidOrder();
+        }).limit(2_000_000).iterator();
+
+        try {
+            Iterator<ValidationResult> results = validator.validateAll(source, plan, true).iterator();
+            for (int i = 0; i < 5_000; i++) {
+                assertTrue(results.next().isValid());
+            }
+
+            // Two batches per thread in flight, plus the batch being consumed
+            assertTrue(read.get() <= 5_000 + 5 * BatchSpliterator.BATCH_SIZE, "read " + read.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldUseInterpreter_WhenModelClassFromChildLoader(@TempDir Path dir) throws Exception {
+        compileModel(dir);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {dir.toUri().toURL()},
+                ObjectValidatorTest.class.getClassLoader())) {
+            Object model = loader.loadClass("m.Model").getConstructor().newInstance();
+            ObjectValidator generated = new ObjectValidator();
+            generated.setCodeGeneration(true);
+            ValidationPlan plan = generated.compile(List.of(Map.of("field", "name",
+                "rules", List.of(Map.of("type", "minLength", "value", 2)))));
+
+            for (int i = 0; i < 2; i++) {
+                ValidationResult result = generated.validate(model, plan);
+                assertEquals(1, result.getViolations().size());
+                assertEquals("name", result.getViolations().get(0).getPath());
+            }
+        }
+    }
+
+    @Test
+    void shouldReleaseChildLoader_WhenPlanOutlivesModelClass(@TempDir Path dir) throws Exception {
+        compileModel(dir);
+        ObjectValidator generated = new ObjectValidator();
+        generated.setCodeGeneration(true);
+        ValidationPlan plan = generated.compile(List.of(Map.of("field", "name",
+            "rules", List.of(Map.of("type", "minLength", "value", 2)))));
+        WeakReference<ClassLoader> loader = validateInChildLoader(dir, generated, plan);
+        // Moves the field's accessor cache off the model class
+        new ObjectValidator().validate(createValidOrder().getCustomer(), plan);
+
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(loader.get());
+    }
+
+    private static WeakReference<ClassLoader> validateInChildLoader(Path dir, ObjectValidator validator,
+                                                                    ValidationPlan plan) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {dir.toUri().toURL()},
+                ObjectValidatorTest.class.getClassLoader())) {
+            Object model = loader.loadClass("m.Model").getConstructor().newInstance();
+            assertFalse(validator.validate(model, plan).isValid());
+            return new WeakReference<>(loader);
+        }
+    }
+
+    private static void compileModel(Path dir) throws Exception {
+        Path source = dir.resolve("m/Model.java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, "package m; public class Model { private String name = \"J\";"
+            + " public String getName() { return name; } }");
+        assertEquals(0, ToolProvider.getSystemJavaCompiler().run(null, null, null, source.toString()));
+    }
+
+    @Test
+    void shouldReportSameViolations_WhenCodeGenerationEnabled() {
+        ObjectValidator generated = new ObjectValidator();
+        generated.setCodeGeneration(true);
+        ValidationPlan plan = generated.compile(validations);
+
+        List<Order> orders = new ArrayList<>();
+        orders.add(createValidOrder());
+        Order broken = createValidOrder();
+        broken.setOrderId("ORD-1234567");
+        broken.getCustomer().setName("J");
+        broken.setItems(createItems(3, 0, 2));
+        orders.add(broken);
+        Order missing = createValidOrder();
+        missing.setOrderId(null);
+        missing.setCustomer(null);
+        missing.setItems(Collections.emptyList());
+        orders.add(missing);
+
+        for (Order candidate : orders) {
+            assertEquals(describe(validator.validate(candidate, plan)), describe(generated.validate(candidate, plan)));
+            assertEquals(failFastMessage(validator, candidate, plan), failFastMessage(generated, candidate, plan));
+        }
+        assertNotNull(GeneratedValidators.find(Order.class, plan, false, true));
+        assertNotNull(GeneratedValidators.find(OrderItem.class, plan.getFields().get(2).getNested(), false, true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldUsePrecompiledValidators_WhenPlanMatchesAnnotatedRules() throws Exception {
+        // The processor ran against the main rule file, which the test resources shadow on the classpath
+        Path classes = Paths.get(ObjectValidator.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Map<String, Object> rules;
+        try (InputStream input = Files.newInputStream(classes.resolve("validation-rules.yml"))) {
+            rules = new Yaml().load(input);
+        }
+        Map<String, Object> createOrder = (Map<String, Object>) ((Map<String, Object>) rules.get("requests")).get("createOrder");
+        ValidationPlan plan = validator.compile((List<Map<String, Object>>) createOrder.get("validations"));
+
+        assertTrue(GeneratedValidators.find(Order.class, plan, true, false) instanceof PrecompiledValidator);
+        assertTrue(GeneratedValidators.find(OrderItem.class, plan.getFields().get(2).getNested(), true, false)
+            instanceof PrecompiledValidator);
+        assertNull(GeneratedValidators.find(Order.class, validator.compile(validations), true, false));
+
+        ObjectValidator interpreted = new ObjectValidator();
+        interpreted.setPrecompiled(false);
+        Order broken = createValidOrder();
+        broken.setOrderId("ORD-1");
+        broken.getCustomer().setName("J");
+        broken.setItems(createItems(3, 1));
+        broken.setShippingAddress(null);
+        for (Order candidate : List.of(createValidOrder(), broken)) {
+            assertEquals(describe(interpreted.validate(candidate, plan)), describe(validator.validate(candidate, plan)));
+            assertEquals(failFastMessage(interpreted, candidate, plan), failFastMessage(validator, candidate, plan));
+        }
+    }
+
+    @Test
+    void shouldReportPlanOrderViolation_WhenAdaptiveRuleOrderEnabled() {
+        List<Map<String, Object>> rules = List.of(Map.of(
+            "field", "orderId",
+            "rules", List.of(
+                Map.of("type", "minLength", "value", 20),
+                Map.of("type", "pattern", "value", "^ORD-[0-9]{6}$"))));
+        ValidationPlan plan = validator.compile(rules);
+        ObjectValidator adaptive = new ObjectValidator();
+        adaptive.setAdaptiveRuleOrder(true);
+
+        // Only the pattern fails, so it moves to the front of the learned order
+        order.setOrderId("ORD-1234567890123456789");
+        for (int i = 0; i < 64 * 256; i++) {
+            failFastMessage(adaptive, order, plan);
+        }
+        assertEquals("pattern", plan.getFields().get(0).getRuleOrder().getRules().get(0).getType());
+
+        for (String orderId : List.of("INVALID", "ORD-1234567890123456789", "ORD-12345678901234567890", "ORD-1")) {
+            order.setOrderId(orderId);
+            assertEquals(failFastMessage(validator, order, plan), failFastMessage(adaptive, order, plan), orderId);
+        }
+        order.setOrderId("INVALID");
+        assertEquals("orderId must be at least 20 characters", failFastMessage(adaptive, order, plan));
+    }
+
+    private static List<String> describe(ValidationResult result) {
+        return result.getViolations().stream()
+            .map(v -> v.getPath() + "|" + v.getRuleType() + "|" + v.getMessage())
+            .collect(Collectors.toList());
+    }
+
+    private static String failFastMessage(ObjectValidator validator, Object obj, ValidationPlan plan) {
+        try {
+            validator.validateObject(obj, plan);
+            return null;
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+    }
+
+    private List<OrderItem> createItems(int count, int... invalidIndexes) {
+        List<OrderItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OrderItem item = new OrderItem();
+            item.setProductId("PROD-" + i);
+            item.setQuantity(1);
+            items.add(item);
+        }
+        for (int index : invalidIndexes) {
+            items.get(index).setProductId("INVALID");
+            items.get(index).setQuantity(0);
+        }
+        return items;
+    }
+
     private Order createValidOrder() {
         Order order = new Order();
         order.setOrderId("ORD-123456");
@@ -0,0 +1,143 @@
+package com.validate.validator;
+
+import com.validate.model.Customer;
+import com.validate.model.Order;
+import com.validate.validator.plan.ValidationPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+    private ObjectValidator validator;
+    private ResultCache cache;
+    private List<Map<String, Object>> orderValidations;
+
+    @BeforeEach
+    void setUp() {
+        validator = new ObjectValidator();
+        cache = new ResultCache(1000);
+        validator.setResultCache(cache);
+        orderValidations = List.of(
+            Map.of("field", "orderId", "rules", List.of(Map.of("type", "required"))),
+            Map.of("field", "customer", "type", "object", "fields", List.of(
+                Map.of("field", "name", "rules", List.of(
+                    Map.of("type", "required"),
+                    Map.of("type", "minLength", "value", 2))))));
+    }
+
+    @Test
+    void shouldSkipNestedObject_WhenCachedByIdentity() {
+        cache.cacheByIdentity(Customer.class);
+        ValidationPlan plan = validator.compile(orderValidations);
+        Customer customer = createCustomer("John");
+
+        assertTrue(validator.validate(createOrder("ORD-1", customer), plan).isValid());
+        assertTrue(validator.validate(createOrder("ORD-2", customer), plan).isValid());
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    void shouldRevalidate_WhenContentKeyChanges() {
+        cache.cacheByKey(Customer.class, Customer::getName);
+        ValidationPlan plan = validator.compile(orderValidations);
+        Customer customer = createCustomer("John");
+        Order order = createOrder("ORD-1", customer);
+        validator.validate(order, plan);
+
+        customer.setName("J");
+        ValidationResult result = validator.validate(order, plan);
+
+        assertEquals(1, result.getViolations().size());
+        assertEquals("customer.name", result.getViolations().get(0).getPath());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void shouldNotCacheInvalidObjects() {
+        cache.cacheByIdentity(Customer.class);
+        ValidationPlan plan = validator.compile(orderValidations);
+        Order order = createOrder("ORD-1", createCustomer("J"));
+
+        assertFalse(validator.validate(order, plan).isValid());
+        assertFalse(validator.validate(order, plan).isValid());
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void shouldMiss_WhenPlanRecompiled() {
+        cache.cacheByIdentity(Order.class);
+        Order order = createOrder("ORD-1", createCustomer("John"));
+        validator.validate(order, validator.compile(orderValidations));
+
+        validator.validate(order, validator.compile(orderValidations));
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void shouldIgnoreClassesNotRegistered() {
+        ValidationPlan plan = validator.compile(orderValidations);
+        Order order = createOrder("ORD-1", createCustomer("John"));
+
+        validator.validate(order, plan);
+        validator.validate(order, plan);
+
+        assertEquals(0, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    void shouldDropIdentityEntry_WhenObjectCollected() throws InterruptedException {
+        cache.cacheByIdentity(Customer.class);
+        ValidationPlan plan = validator.compile(orderValidations);
+        validator.validate(createOrder("ORD-1", createCustomer("John")), plan);
+        assertEquals(1, cache.size());
+
+        // An invalid customer is looked up but never stored
+        for (int i = 0; i < 50 && cache.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+            validator.validate(createOrder("ORD-2", createCustomer("J")), plan);
+        }
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed_WhenFull() {
+        ResultCache small = new ResultCache(16);
+        small.cacheByKey(Customer.class, Customer::getName);
+        validator.setResultCache(small);
+        ValidationPlan plan = validator.compile(orderValidations);
+
+        for (int i = 0; i < 200; i++) {
+            validator.validate(createOrder("ORD-" + i, createCustomer("Customer " + i)), plan);
+        }
+
+        assertTrue(small.size() <= 16);
+        assertEquals(200 - small.size(), small.getEvictionCount());
+    }
+
+    private static Customer createCustomer(String name) {
+        Customer customer = new Customer();
+        customer.setName(name);
+        return customer;
+    }
+
+    private static Order createOrder(String orderId, Customer customer) {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setCustomer(customer);
+        return order;
+    }
+}
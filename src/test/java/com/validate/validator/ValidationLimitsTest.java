@@ -0,0 +1,142 @@
+package com.validate.validator;
+
+import com.validate.model.Customer;
+import com.validate.model.Order;
+import com.validate.model.OrderItem;
+import com.validate.validator.plan.ValidationPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationLimitsTest {
+    private ObjectValidator validator;
+    private ValidationPlan plan;
+
+    @BeforeEach
+    void setUp() {
+        validator = new ObjectValidator();
+        plan = validator.compile(List.of(
+            Map.of("field", "orderId", "rules", List.of(Map.of("type", "required"))),
+            Map.of("field", "customer", "type", "object", "fields", List.of(
+                Map.of("field", "name", "rules", List.of(Map.of("type", "required"))))),
+            Map.of("field", "items", "type", "list", "itemValidations", List.of(
+                Map.of("field", "productId", "rules", List.of(Map.of("type", "required")))))));
+    }
+
+    @Test
+    void shouldValidate_WhenWithinLimits() {
+        validator.setMaxDepth(2);
+        validator.setMaxNodes(3);
+        validator.setCycleDetection(true);
+        validator.setTimeBudget(Duration.ofSeconds(10));
+
+        assertTrue(validator.validate(createOrder(1), plan).isValid());
+    }
+
+    @Test
+    void shouldThrowException_WhenMaxDepthExceeded() {
+        validator.setMaxDepth(1);
+
+        ValidationLimitException exception = assertThrows(ValidationLimitException.class,
+            () -> validator.validate(createOrder(1), plan));
+        assertEquals("customer", exception.getPath());
+        assertEquals("Validation exceeded the maximum depth of 1 at customer", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenMaxNodesExceeded() {
+        validator.setMaxNodes(10);
+
+        ValidationLimitException exception = assertThrows(ValidationLimitException.class,
+            () -> validator.validateObject(createOrder(100), plan));
+        assertEquals("items[8]", exception.getPath());
+    }
+
+    @Test
+    void shouldCountNodesAcrossParallelChunks() {
+        validator.setParallelThreshold(10);
+        validator.setMaxNodes(1000);
+
+        assertThrows(ValidationLimitException.class, () -> validator.validate(createOrder(5000), plan));
+        assertTrue(validator.validate(createOrder(500), plan).isValid());
+    }
+
+    @Test
+    void shouldThrowException_WhenTimeBudgetSpent() {
+        validator.setTimeBudget(Duration.ofNanos(1));
+
+        assertThrows(ValidationLimitException.class, () -> validator.validate(createOrder(1000), plan));
+    }
+
+    @Test
+    void shouldThrowException_WhenObjectNestedInItself() {
+        validator.setCycleDetection(true);
+        List<Map<String, Object>> node = new ArrayList<>();
+        node.add(Map.of("field", "value", "rules", List.of(Map.of("type", "required"))));
+        ValidationPlan nodePlan = validator.compile(List.of(
+            Map.of("field", "next", "type", "object", "fields", List.of(
+                Map.of("field", "next", "type", "object", "fields", node)))));
+        Node first = new Node();
+        Node second = new Node();
+        first.next = second;
+        second.next = first;
+
+        ValidationLimitException exception = assertThrows(ValidationLimitException.class,
+            () -> validator.validate(first, nodePlan));
+        assertEquals("next.next", exception.getPath());
+    }
+
+    @Test
+    void shouldAllowSharedObjects_WhenNotNestedInThemselves() {
+        validator.setCycleDetection(true);
+        Order order = createOrder(2);
+        OrderItem shared = order.getItems().get(0);
+        order.setItems(List.of(shared, shared));
+
+        assertTrue(validator.validate(order, plan).isValid());
+    }
+
+    @Test
+    void shouldReleaseContext_WhenLimitExceeded() {
+        validator.setMaxNodes(1);
+        assertThrows(ValidationLimitException.class, () -> validator.validate(createOrder(1), plan));
+
+        validator.setMaxNodes(0);
+        assertTrue(validator.validate(createOrder(1), plan).isValid());
+    }
+
+    private static Order createOrder(int items) {
+        Order order = new Order();
+        order.setOrderId("ORD-1");
+        Customer customer = new Customer();
+        customer.setName("John");
+        order.setCustomer(customer);
+        List<OrderItem> list = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            OrderItem item = new OrderItem();
+            item.setProductId("PROD-" + i);
+            list.add(item);
+        }
+        order.setItems(list);
+        return order;
+    }
+
+    public static class Node {
+        Node next;
+        String value = "v";
+
+        public Node getNext() {
+            return next;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
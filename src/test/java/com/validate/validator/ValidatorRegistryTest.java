@@ -5,7 +5,9 @@ import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -42,6 +44,146 @@ class ValidatorRegistryTest {
         assertEquals("Unknown validation type: nonexistent", exception.getMessage());
     }
 
+    @Test
+    void shouldThrowException_WhenRuleHasNoType() {
+        List<Map<String, Object>> validations = List.of(Map.of(
+            "field", "orderId",
+            "rules", List.of(Map.of("value", 2))));
+        ObjectValidator unfrozen = new ObjectValidator();
+        ObjectValidator frozen = new ObjectValidator(registry);
+        registry.freeze();
+
+        for (ObjectValidator validator : List.of(unfrozen, frozen)) {
+            ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> validator.compile(validations)
+            );
+            assertEquals("Unknown validation type: null", exception.getMessage());
+        }
+    }
+
+    @Test
+    void shouldAssignDenseIdsInTypeOrder_WhenFrozen() {
+        registry.freeze();
+
+        assertTrue(registry.isFrozen());
+        assertTrue(registry.getId("maxLength") < registry.getId("minLength"));
+        for (String type : registry.getRegisteredValidatorTypes()) {
+            int id = registry.getId(type);
+            assertTrue(id >= 0 && id < registry.getValidatorCount());
+            assertSame(registry.getValidator(type), registry.getValidator(id));
+        }
+    }
+
+    @Test
+    void shouldRejectRegistration_WhenFrozen() {
+        registry.freeze();
+        registry.freeze();
+
+        assertThrows(IllegalStateException.class, () -> registry.registerValidator(new CustomTestValidator()));
+        assertFalse(registry.getRegisteredValidatorTypes().contains("test"));
+    }
+
+    @Test
+    void shouldThrowException_WhenIdsRequestedBeforeFreeze() {
+        assertThrows(IllegalStateException.class, () -> registry.getId("required"));
+        assertThrows(IllegalStateException.class, () -> registry.getValidator(0));
+    }
+
+    @Test
+    void shouldNotChangeEarlierTypes_WhenValidatorRegistered() {
+        Set<String> before = registry.getRegisteredValidatorTypes();
+        registry.registerValidator(new CustomTestValidator());
+
+        assertFalse(before.contains("test"));
+        assertTrue(registry.getRegisteredValidatorTypes().contains("test"));
+    }
+
+    @Test
+    void shouldRecordValidatorIds_WhenCompiledAgainstFrozenRegistry() {
+        ObjectValidator validator = new ObjectValidator();
+        validator.getValidatorRegistry().freeze();
+        List<Map<String, Object>> validations = List.of(Map.of(
+            "field", "orderId",
+            "rules", List.of(Map.of("type", "required"))));
+
+        int id = validator.compile(validations).getFields().get(0).getRules().get(0).getValidatorId();
+
+        assertEquals(validator.getValidatorRegistry().getId("required"), id);
+    }
+
+    @Test
+    void shouldReturnSameFrozenRegistry_WhenSharedRequested() {
+        assertSame(ValidatorRegistry.shared(), ValidatorRegistry.shared());
+        assertTrue(ValidatorRegistry.shared().isFrozen());
+        assertThrows(IllegalStateException.class,
+            () -> ValidatorRegistry.shared().registerValidator(new CustomTestValidator()));
+    }
+
+    @Test
+    void shouldResolveParentValidators_WhenChildHasNoOverride() {
+        ValidatorRegistry child = registry.child();
+
+        assertSame(registry.getValidator("required"), child.getValidator("required"));
+        assertEquals(registry.getRegisteredValidatorTypes(), child.getRegisteredValidatorTypes());
+    }
+
+    @Test
+    void shouldKeepRegistrationsLocal_WhenRegisteredOnChild() {
+        ValidatorRegistry child = registry.child();
+        ValidatorRegistry sibling = registry.child();
+        FieldValidator custom = new CustomTestValidator();
+        child.registerValidator(custom);
+
+        assertSame(custom, child.getValidator("test"));
+        assertThrows(ValidationException.class, () -> sibling.getValidator("test"));
+        assertThrows(ValidationException.class, () -> registry.getValidator("test"));
+    }
+
+    @Test
+    void shouldPreferChildValidator_WhenTypeOverridden() {
+        ValidatorRegistry child = registry.child();
+        FieldValidator override = new RenamedTestValidator("required");
+        child.registerValidator(override);
+
+        assertSame(override, child.getValidator("required"));
+        assertNotSame(override, registry.getValidator("required"));
+    }
+
+    @Test
+    void shouldNumberParentAndChildTypes_WhenChildFrozen() {
+        ValidatorRegistry child = registry.child();
+        child.registerValidator(new CustomTestValidator());
+        child.freeze();
+
+        assertEquals(registry.getValidatorCount() + 1, child.getValidatorCount());
+        assertSame(registry.getValidator("pattern"), child.getValidator(child.getId("pattern")));
+        assertEquals("test", child.getValidator(child.getId("test")).getType());
+    }
+
+    @Test
+    void shouldShareSpiValidators_WhenObjectValidatorsCreated() {
+        ObjectValidator first = new ObjectValidator();
+        ObjectValidator second = new ObjectValidator();
+
+        assertSame(ValidatorRegistry.shared(), first.getValidatorRegistry().getParent());
+        assertSame(first.getValidatorRegistry().getValidator("pattern"),
+            second.getValidatorRegistry().getValidator("pattern"));
+    }
+
+    private static class RenamedTestValidator extends CustomTestValidator {
+        private final String type;
+
+        RenamedTestValidator(String type) {
+            this.type = type;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+
     // Custom validator for testing
     private static class CustomTestValidator implements FieldValidator {
         @Override
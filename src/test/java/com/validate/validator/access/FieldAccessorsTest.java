@@ -0,0 +1,49 @@
+package com.validate.validator.access;
+
+import com.validate.model.OrderItem;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldAccessorsTest {
+
+    @Test
+    void shouldReadPrivateFields() throws Exception {
+        OrderItem item = new OrderItem();
+        item.setProductId("PROD-001");
+        item.setQuantity(3);
+
+        assertEquals("PROD-001", FieldAccessors.forField(OrderItem.class, "productId").get(item));
+        assertEquals(3, FieldAccessors.forField(OrderItem.class, "quantity").get(item));
+        assertEquals(int.class, FieldAccessors.forField(OrderItem.class, "quantity").getType());
+    }
+
+    @Test
+    void shouldReadPrimitiveFieldsUnboxed() throws Exception {
+        OrderItem item = new OrderItem();
+        item.setQuantity(7);
+        FieldAccessor quantity = FieldAccessors.forField(OrderItem.class, "quantity");
+
+        assertEquals(7, quantity.getInt(item));
+        assertThrows(IllegalStateException.class, () -> quantity.getLong(item));
+        assertThrows(IllegalStateException.class,
+            () -> FieldAccessors.forField(OrderItem.class, "productId").getDouble(item));
+    }
+
+    @Test
+    void shouldReuseAccessor_ForSameClassAndField() throws Exception {
+        assertSame(
+            FieldAccessors.forField(OrderItem.class, "productId"),
+            FieldAccessors.forField(OrderItem.class, "productId")
+        );
+    }
+
+    @Test
+    void shouldThrowException_WhenFieldMissing() {
+        NoSuchFieldException exception = assertThrows(
+            NoSuchFieldException.class,
+            () -> FieldAccessors.forField(OrderItem.class, "nonexistent")
+        );
+        assertEquals("nonexistent", exception.getMessage());
+    }
+}
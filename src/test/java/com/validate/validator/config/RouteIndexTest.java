@@ -0,0 +1,125 @@
+package com.validate.validator.config;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteIndexTest {
+    private static final String RULES = "requests:\n"
+        + "  createOrder:\n"
+        + "    path: /api/orders\n"
+        + "    method: POST\n"
+        + "    validations:\n"
+        + "      - field: orderId\n"
+        + "        rules: [{type: required}]\n"
+        + "  getOrder:\n"
+        + "    path: /api/orders/{id}\n"
+        + "    method: GET\n"
+        + "    validations: []\n"
+        + "  getLatestOrder:\n"
+        + "    path: /api/orders/latest\n"
+        + "    method: GET\n"
+        + "  getOrderItem:\n"
+        + "    path: /api/orders/{id}/items/{itemId}\n"
+        + "  health:\n"
+        + "    path: /health\n"
+        + "responses:\n"
+        + "  getOrder:\n"
+        + "    validations: []\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldResolveExactAndTemplatePaths() throws IOException {
+        ValidationConfig config = config(RULES);
+
+        Route create = config.route("POST", "/api/orders");
+        assertEquals("createOrder", create.getRequestEndpoint());
+        assertSame(config.getRequestPlan("orders", "createOrder"), create.getRequestPlan());
+        assertNull(create.getResponsePlan());
+
+        Route get = config.route("get", "/api/orders/ORD-1?expand=items");
+        assertEquals("getOrder", get.getRequestEndpoint());
+        assertEquals("getOrder", get.getResponseEndpoint());
+        assertNotNull(get.getResponsePlan());
+
+        assertEquals("getLatestOrder", config.route("GET", "/api/orders/latest").getRequestEndpoint());
+        assertEquals("getOrderItem", config.route("DELETE", "/api/orders/1/items/2/").getRequestEndpoint());
+        assertEquals("health", config.route("HEAD", "/health").getRequestEndpoint());
+    }
+
+    @Test
+    void shouldReturnNull_WhenNoRouteMatches() throws IOException {
+        ValidationConfig config = config(RULES);
+
+        assertNull(config.route("DELETE", "/api/orders"));
+        assertNull(config.route("GET", "/api/orders/1/items"));
+        assertNull(config.route("GET", "/api/customers/1"));
+    }
+
+    @Test
+    void shouldMatchOnlyAnyMethodRoutes_WhenMethodNull() throws IOException {
+        ValidationConfig config = config(RULES);
+
+        assertEquals("health", config.route(null, "/health").getRequestEndpoint());
+        assertEquals("getOrderItem", config.route(null, "/api/orders/1/items/2").getRequestEndpoint());
+        assertNull(config.route(null, "/api/orders"));
+        assertNull(config.route(null, "/api/orders/ORD-1"));
+    }
+
+    @Test
+    void shouldThrowException_WhenRoutesConflict() throws IOException {
+        ValidationConfig config = config(RULES.replace("/api/orders/latest", "/api/orders/{orderId}"));
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> config.route("GET", "/api/orders/1"));
+        assertTrue(exception.getMessage().startsWith("Duplicate route GET /api/orders/"));
+        // The failure is kept, not rebuilt per lookup
+        assertSame(exception, assertThrows(ValidationException.class, () -> config.route("POST", "/api/orders")));
+    }
+
+    @Test
+    void shouldRoute_WhenReloadFixesConflict() throws IOException {
+        ValidationConfig config = config(RULES.replace("/api/orders/latest", "/api/orders/{orderId}"));
+        assertThrows(ValidationException.class, () -> config.route("GET", "/api/orders/1"));
+
+        rewrite(RULES);
+
+        assertTrue(config.reload());
+        assertEquals("getOrder", config.route("GET", "/api/orders/1").getRequestEndpoint());
+    }
+
+    @Test
+    void shouldKeepRoutes_WhenReloadAddsConflict() throws IOException {
+        ValidationConfig config = config(RULES);
+        assertEquals("getOrder", config.route("GET", "/api/orders/1").getRequestEndpoint());
+
+        rewrite(RULES.replace("/api/orders/latest", "/api/orders/{orderId}"));
+
+        assertThrows(ValidationException.class, config::reload);
+        assertEquals("getOrder", config.route("GET", "/api/orders/1").getRequestEndpoint());
+    }
+
+    private void rewrite(String rules) throws IOException {
+        Path file = dir.resolve("orders.yml");
+        FileTime modified = Files.getLastModifiedTime(file);
+        Files.writeString(file, rules);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 2000));
+    }
+
+    private ValidationConfig config(String rules) throws IOException {
+        Files.writeString(dir.resolve("orders.yml"), rules);
+        Properties properties = new Properties();
+        properties.setProperty(ValidationConfig.RULE_NAMES, "orders");
+        properties.setProperty(ValidationConfig.RULE_DIR, dir.toString());
+        return new ValidationConfig(properties);
+    }
+}
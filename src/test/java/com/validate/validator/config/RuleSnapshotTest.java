@@ -0,0 +1,96 @@
+package com.validate.validator.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleSnapshotTest {
+    private static final String RULES = "requests:\n"
+        + "  createOrder:\n"
+        + "    path: /api/orders\n"
+        + "    method: POST\n"
+        + "    validations:\n"
+        + "      - field: orderId\n"
+        + "        rules:\n"
+        + "          - type: minLength\n"
+        + "            value: 3\n"
+        + "          - type: pattern\n"
+        + "            value: \"^ORD-[0-9]{6}$\"\n"
+        + "responses:\n"
+        + "  createOrder:\n"
+        + "    flags: [true, 1.5, 12345678901, null]\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldDecodeSameMapsAsYaml() throws IOException {
+        Path snapshotFile = compile(RULES);
+        byte[] yaml = Files.readAllBytes(dir.resolve("orders.yml"));
+
+        RuleSnapshot snapshot = RuleSnapshot.load(snapshotFile.toString());
+        Map<String, Map<String, Object>> sections = snapshot.sections("orders", RuleSnapshot.checksum(yaml));
+
+        Map<String, Object> parsed = new Yaml().load(RULES);
+        assertEquals(((Map<?, ?>) parsed.get("requests")).get("createOrder"),
+            RuleSnapshot.decode((ByteBuffer) sections.get("requests").get("createOrder")));
+        assertEquals(((Map<?, ?>) parsed.get("responses")).get("createOrder"),
+            RuleSnapshot.decode((ByteBuffer) sections.get("responses").get("createOrder")));
+        assertNull(snapshot.sections("orders", RuleSnapshot.checksum(yaml) + 1));
+    }
+
+    @Test
+    void shouldLoadFromSnapshot_AndFallBackToYaml_WhenStale() throws IOException {
+        Path snapshotFile = compile(RULES);
+        Properties properties = properties(snapshotFile);
+
+        assertEquals("/api/orders", new ValidationConfig(properties).getRequestValidation("orders", "createOrder").get("path"));
+
+        Files.writeString(dir.resolve("orders.yml"), RULES.replace("/api/orders", "/api/v2/orders"));
+        properties.setProperty(ValidationConfig.LOAD_MODE, "lazy");
+        assertEquals("/api/v2/orders", new ValidationConfig(properties).getRequestValidation("orders", "createOrder").get("path"));
+    }
+
+    @Test
+    void shouldIgnoreCorruptSnapshot() throws IOException {
+        Path snapshotFile = compile(RULES);
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(snapshotFile, bytes);
+
+        assertThrows(IOException.class, () -> RuleSnapshot.load(snapshotFile.toString()));
+        assertEquals("POST", new ValidationConfig(properties(snapshotFile))
+            .getRequestValidation("orders", "createOrder").get("method"));
+    }
+
+    @Test
+    void shouldFailCompile_WhenRuleTypeUnknown() throws IOException {
+        assertThrows(RuntimeException.class, () -> compile(RULES.replace("minLength", "nonexistent")));
+    }
+
+    private Path compile(String rules) throws IOException {
+        Files.writeString(dir.resolve("orders.yml"), rules);
+        Path snapshotFile = dir.resolve("out").resolve("rules.snapshot");
+        RuleSnapshotCompiler.compile(properties(null), snapshotFile);
+        return snapshotFile;
+    }
+
+    private Properties properties(Path snapshotFile) {
+        Properties properties = new Properties();
+        properties.setProperty(ValidationConfig.RULE_NAMES, "orders");
+        properties.setProperty(ValidationConfig.RULE_DIR, dir.toString());
+        if (snapshotFile != null) {
+            properties.setProperty(ValidationConfig.SNAPSHOT, snapshotFile.toString());
+        }
+        return properties;
+    }
+}
@@ -1,14 +1,27 @@
 package com.validate.validator.config;
 
+import com.validate.validator.plan.ValidationPlan;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class ValidationConfigTest {
     private ValidationConfig config;
 
+    @TempDir
+    Path ruleDir;
+
     @BeforeEach
     void setUp() {
         config = new ValidationConfig();
@@ -27,4 +40,136 @@ class ValidationConfigTest {
         Map<String, Object> validation = config.getRequestValidation("validation-rules","nonexistentEndpoint");
         assertNull(validation);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldCompileRequestPlanOnce() {
+        ValidationPlan plan = config.getRequestPlan("validation-rules", "createOrder");
+        assertNotNull(plan);
+        assertSame(plan, config.getRequestPlan("validation-rules", "createOrder"));
+        assertNull(config.getRequestPlan("validation-rules", "nonexistentEndpoint"));
+    }
+
+    @Test
+    void shouldPublishNewSnapshot_WhenRuleFileChanges() throws IOException {
+        Path file = writeRules(ruleDir.resolve("orders.yml"), "minLength", 1);
+        ValidationConfig reloading = new ValidationConfig(properties());
+        ConfigSnapshot before = reloading.getSnapshot();
+
+        assertFalse(reloading.reload());
+
+        writeRules(file, "minLength", 5);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+        assertTrue(reloading.reload());
+
+        ConfigSnapshot after = reloading.getSnapshot();
+        assertEquals(before.getGeneration() + 1, after.getGeneration());
+        assertEquals(1, ruleValue(before));
+        assertEquals(5, ruleValue(after));
+    }
+
+    @Test
+    void shouldKeepCurrentSnapshot_WhenReloadedRulesDoNotCompile() throws IOException {
+        Path file = writeRules(ruleDir.resolve("orders.yml"), "minLength", 1);
+        ValidationConfig reloading = new ValidationConfig(properties());
+        ConfigSnapshot before = reloading.getSnapshot();
+
+        writeRules(file, "nonexistent", 5);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+
+        assertThrows(RuntimeException.class, reloading::reload);
+        assertSame(before, reloading.getSnapshot());
+    }
+
+    @Test
+    void shouldLoadEndpointsOnFirstUse_WhenLazy() throws IOException {
+        Files.writeString(ruleDir.resolve("orders.yml"), "requests:\n"
+            + "  broken:\n"
+            + "    validations:\n"
+            + "      - field: id\n"
+            + "        rules:\n"
+            + "          - type: nonexistent\n"
+            + "  createOrder:\n"
+            + "    path: /api/orders\n"
+            + "    validations:\n"
+            + "      - field: orderId\n"
+            + "        rules: [{type: minLength, value: 3}]\n");
+        Properties properties = properties();
+        properties.setProperty(ValidationConfig.LOAD_MODE, "lazy");
+        properties.setProperty(ValidationConfig.WARMUP, "orders/createOrder");
+
+        ValidationConfig lazy = new ValidationConfig(properties);
+
+        assertEquals("/api/orders", lazy.getRequestValidation("orders", "createOrder").get("path"));
+        assertEquals(3, ruleValue(lazy.getSnapshot()));
+        assertSame(lazy.getRequestValidation("orders", "createOrder"), lazy.getRequestValidation("orders", "createOrder"));
+        assertThrows(RuntimeException.class, () -> lazy.getRequestPlan("orders", "broken"));
+        assertNull(lazy.getResponseValidation("orders", "createOrder"));
+    }
+
+    @Test
+    void shouldNotReadRuleFile_UntilFirstUse_WhenLazy() throws IOException {
+        Properties properties = properties();
+        properties.setProperty(ValidationConfig.LOAD_MODE, "lazy");
+
+        ValidationConfig lazy = new ValidationConfig(properties);
+        writeRules(ruleDir.resolve("orders.yml"), "minLength", 4);
+
+        assertEquals(4, ruleValue(lazy.getSnapshot()));
+    }
+
+    @Test
+    void shouldUseLastDefinition_WhenEndpointDuplicated_InBothLoadModes() throws IOException {
+        Files.writeString(ruleDir.resolve("orders.yml"), "requests:\n"
+            + "  createOrder:\n"
+            + "    validations: [{field: first}]\n"
+            + "  createOrder:\n"
+            + "    validations: [{field: second}]\n");
+        Properties properties = properties();
+        ValidationConfig eager = new ValidationConfig(properties);
+        properties.setProperty(ValidationConfig.LOAD_MODE, "lazy");
+        ValidationConfig lazy = new ValidationConfig(properties);
+
+        for (ValidationConfig config : List.of(eager, lazy)) {
+            List<?> validations = (List<?>) config.getRequestValidation("orders", "createOrder").get("validations");
+            assertEquals(Map.of("field", "second"), validations.get(0));
+        }
+    }
+
+    @Test
+    void shouldSliceEndpointsOrFallBack_WhenIndexing() {
+        Map<String, Map<String, Object>> sections = RuleIndexer.index("requests:\n"
+            + "  a:\n"
+            + "    path: /a\n"
+            + "    validations: []\n"
+            + "other: {x: [1, 2]}\n"
+            + "responses:\n"
+            + "  b: {path: /b}\n");
+
+        assertEquals("/a", ((Map<?, ?>) new Yaml().load((String) sections.get("requests").get("a"))).get("path"));
+        assertEquals("/b", ((Map<?, ?>) new Yaml().load((String) sections.get("responses").get("b"))).get("path"));
+        assertNull(RuleIndexer.index("requests:\n  a: &shared {path: /a}\n  b: *shared\n"));
+    }
+
+    private Properties properties() {
+        Properties properties = new Properties();
+        properties.setProperty(ValidationConfig.RULE_NAMES, "orders");
+        properties.setProperty(ValidationConfig.RULE_DIR, ruleDir.toString());
+        return properties;
+    }
+
+    private static Path writeRules(Path file, String type, int value) throws IOException {
+        String yaml = "requests:\n"
+            + "  createOrder:\n"
+            + "    validations:\n"
+            + "      - field: orderId\n"
+            + "        rules:\n"
+            + "          - type: " + type + "\n"
+            + "            value: " + value + "\n";
+        return Files.writeString(file, yaml);
+    }
+
+    private static Object ruleValue(ConfigSnapshot snapshot) {
+        return snapshot.getRequestPlan("orders", "createOrder")
+            .getFields().get(0).getRules().get(0).getParams().get("value");
+    }
+}
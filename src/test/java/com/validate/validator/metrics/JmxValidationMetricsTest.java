@@ -0,0 +1,97 @@
+package com.validate.validator.metrics;
+
+import com.validate.model.Customer;
+import com.validate.model.Order;
+import com.validate.validator.ObjectValidator;
+import com.validate.validator.config.ValidationConfig;
+import com.validate.validator.plan.ValidationPlan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JmxValidationMetricsTest {
+    private static final String ENDPOINT = "validation-rules/requests/createOrder";
+
+    private JmxValidationMetrics metrics;
+    private ObjectValidator validator;
+    private ValidationPlan plan;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new JmxValidationMetrics("test");
+        validator = new ObjectValidator();
+        validator.setMetrics(metrics);
+        plan = new ValidationConfig().getRequestPlan("validation-rules", "createOrder");
+    }
+
+    @AfterEach
+    void tearDown() {
+        metrics.close();
+    }
+
+    @Test
+    void shouldCountValidationsFieldsAndRules() {
+        validator.validate(createOrder("ORD-123456", "Jane"), plan);
+        validator.validate(createOrder("INVALID", "J"), plan);
+
+        EndpointMetrics endpoint = metrics.getEndpoint(ENDPOINT);
+        assertEquals(ENDPOINT, plan.getName());
+        assertEquals(2, endpoint.getValidations());
+        assertEquals(1, endpoint.getFailures());
+        assertEquals(2, endpoint.getRuleInvocations("orderId", "pattern"));
+        assertEquals(1, endpoint.getRuleFailures("orderId", "pattern"));
+        assertEquals(1, endpoint.getRuleFailures("customer.name", "minLength"));
+        assertEquals(0, endpoint.getRuleFailures("customer.email", "pattern"));
+        assertEquals(3, endpoint.getSlowestFields().length);
+        assertTrue(endpoint.getRuleCounts()[0].endsWith(": 1 failed of 2"));
+        assertTrue(endpoint.getMaxNanos() >= endpoint.getP50Nanos());
+    }
+
+    @Test
+    void shouldCountFailure_WhenFailFastThrows() {
+        Order order = createOrder("INVALID", "Jane");
+        assertThrows(RuntimeException.class, () -> validator.validateObject(order, plan));
+
+        EndpointMetrics endpoint = metrics.getEndpoint(ENDPOINT);
+        assertEquals(1, endpoint.getFailures());
+        // Fail-fast stops at the first violation
+        assertEquals(0, endpoint.getRuleInvocations("customer.name", "required"));
+    }
+
+    @Test
+    void shouldPublishEndpointAsMBean() throws Exception {
+        validator.validate(createOrder("ORD-123456", "Jane"), plan);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.validate.validator:type=ValidationMetrics,name=\"test\",endpoint="
+            + ObjectName.quote(ENDPOINT));
+        assertEquals(1L, server.getAttribute(name, "Validations"));
+
+        metrics.close();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    void shouldRecordNothing_WhenMetricsDisabled() {
+        validator.setMetrics(null);
+        validator.validate(createOrder("ORD-123456", "Jane"), plan);
+
+        assertNull(metrics.getEndpoint(ENDPOINT));
+    }
+
+    private static Order createOrder(String orderId, String customerName) {
+        Customer customer = new Customer();
+        customer.setName(customerName);
+        customer.setEmail("jane@example.com");
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setCustomer(customer);
+        return order;
+    }
+}
@@ -0,0 +1,156 @@
+package com.validate.validator.plan;
+
+import com.validate.validator.ValidatorRegistry;
+import com.validate.validator.config.ValidationConfig;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unchecked")
+class PlanCompilerTest {
+    private PlanCompiler compiler;
+    private List<Map<String, Object>> validations;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new PlanCompiler(new ValidatorRegistry());
+        Map<String, Object> endpoint = new ValidationConfig().getRequestValidation("validation-rules", "createOrder");
+        validations = (List<Map<String, Object>>) endpoint.get("validations");
+    }
+
+    @Test
+    void shouldCompileFieldKindsAndRequiredFlags() {
+        ValidationPlan plan = compiler.compile(validations);
+        List<FieldPlan> fields = plan.getFields();
+
+        assertEquals(2, fields.size());
+        assertEquals("orderId", fields.get(0).getName());
+        assertEquals(FieldPlan.Kind.VALUE, fields.get(0).getKind());
+        assertTrue(fields.get(0).isRequired());
+        assertNull(fields.get(0).getNested());
+
+        assertEquals(FieldPlan.Kind.OBJECT, fields.get(1).getKind());
+        assertTrue(fields.get(1).isRequired());
+        assertEquals(2, fields.get(1).getNested().getFields().size());
+    }
+
+    @Test
+    void shouldCompileListItemValidations() {
+        Map<String, Object> quantity = new HashMap<>();
+        quantity.put("field", "quantity");
+        quantity.put("rules", Collections.singletonList(Map.of("type", "min", "value", 1)));
+        Map<String, Object> items = new HashMap<>();
+        items.put("field", "items");
+        items.put("type", "list");
+        items.put("itemValidations", Collections.singletonList(quantity));
+
+        FieldPlan list = compiler.compile(Collections.singletonList(items)).getFields().get(0);
+
+        assertEquals(FieldPlan.Kind.LIST, list.getKind());
+        assertFalse(list.isRequired());
+        assertTrue(list.getRules().isEmpty());
+        assertEquals("quantity", list.getNested().getFields().get(0).getName());
+    }
+
+    @Test
+    void shouldResolveValidatorsAndSnapshotParams() {
+        ValidationPlan plan = compiler.compile(validations);
+        CompiledRule pattern = plan.getFields().get(0).getRules().get(1);
+
+        assertEquals("pattern", pattern.getType());
+        assertEquals("pattern", pattern.getValidator().getType());
+        assertEquals("^ORD-[0-9]{6}$", pattern.getParams().get("value"));
+        assertThrows(UnsupportedOperationException.class, () -> pattern.getParams().put("value", "x"));
+    }
+
+    @Test
+    void shouldThrowException_WhenRuleTypeUnknown() {
+        Map<String, Object> rule = new HashMap<>();
+        rule.put("type", "nonexistent");
+        Map<String, Object> validation = new HashMap<>();
+        validation.put("field", "orderId");
+        validation.put("rules", Collections.singletonList(rule));
+
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> compiler.compile(Collections.singletonList(validation))
+        );
+        assertEquals("Unknown validation type: nonexistent", exception.getMessage());
+    }
+
+    @Test
+    void shouldReuseCachedPlan_ForSameValidationsList() {
+        PlanCache cache = new PlanCache();
+        ValidationPlan first = cache.get(validations, compiler::compile);
+        ValidationPlan second = cache.get(validations, compiler::compile);
+        ValidationPlan other = cache.get(new ArrayList<>(validations), compiler::compile);
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void shouldFingerprintPlansByStructureAndParams() {
+        ValidationPlan plan = compiler.compile(validations);
+        assertEquals(plan.getFingerprint(), compiler.compile(validations).getFingerprint());
+
+        List<Map<String, Object>> changed = new ArrayList<>();
+        Map<String, Object> orderId = new LinkedHashMap<>(validations.get(0));
+        List<Map<String, Object>> rules = new ArrayList<>((List<Map<String, Object>>) orderId.get("rules"));
+        rules.add(Map.of("type", "maxLength", "value", 20));
+        orderId.put("rules", rules);
+        changed.add(orderId);
+        changed.addAll(validations.subList(1, validations.size()));
+
+        assertNotEquals(plan.getFingerprint(), compiler.compile(changed).getFingerprint());
+        assertNotEquals(plan.getFingerprint(), plan.getFields().get(1).getNested().getFingerprint());
+    }
+
+    @Test
+    void shouldOrderRulesByCost_KeepingYamlOrderForEqualCosts() {
+        List<Map<String, Object>> field = List.of(Map.of(
+            "field", "code",
+            "rules", List.of(
+                Map.of("type", "pattern", "value", "^[A-Z]+$"),
+                Map.of("type", "maxLength", "value", 10),
+                Map.of("type", "required"),
+                Map.of("type", "minLength", "value", 2))));
+
+        List<String> ordered = new ArrayList<>();
+        compiler.compile(field).getFields().get(0).getRules().forEach(rule -> ordered.add(rule.getType()));
+        assertEquals(List.of("required", "maxLength", "minLength", "pattern"), ordered);
+
+        compiler.setCostOrdering(false);
+        List<String> declared = new ArrayList<>();
+        compiler.compile(field).getFields().get(0).getRules().forEach(rule -> declared.add(rule.getType()));
+        assertEquals(List.of("pattern", "maxLength", "required", "minLength"), declared);
+    }
+
+    @Test
+    void shouldThrowException_WhenValidationsContainThemselves() {
+        List<Map<String, Object>> recursive = new ArrayList<>();
+        Map<String, Object> parent = new HashMap<>();
+        parent.put("field", "parent");
+        parent.put("type", "object");
+        parent.put("fields", recursive);
+        recursive.add(parent);
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> compiler.compile(recursive));
+        assertEquals("Validations for 'parent' contain themselves", exception.getMessage());
+    }
+
+    @Test
+    void shouldCompileSharedValidations_WhenUsedBySiblings() {
+        List<Map<String, Object>> address = List.of(Map.of("field", "street", "rules", List.of(Map.of("type", "required"))));
+        List<Map<String, Object>> shared = List.of(
+            Map.of("field", "billing", "type", "object", "fields", address),
+            Map.of("field", "shipping", "type", "object", "fields", address));
+
+        assertEquals(2, compiler.compile(shared).getFields().size());
+    }
+}
@@ -0,0 +1,60 @@
+package com.validate.validator.plan;
+
+import com.validate.validator.ValidatorRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleOrderTest {
+    private FieldPlan field;
+
+    @BeforeEach
+    void setUp() {
+        ValidationPlan plan = new PlanCompiler(new ValidatorRegistry()).compile(List.of(Map.of(
+            "field", "code",
+            "rules", List.of(
+                Map.of("type", "pattern", "value", "^A.*$"),
+                Map.of("type", "minLength", "value", 2)))));
+        field = plan.getFields().get(0);
+    }
+
+    @Test
+    void shouldKeepPlanOrder_UntilFirstWindowCompletes() {
+        RuleOrder order = field.getRuleOrder();
+        for (int i = 0; i < RuleOrder.WINDOW - 1; i++) {
+            order.sample("Bxx");
+        }
+        assertSame(field.getRules(), order.getRules());
+    }
+
+    @Test
+    void shouldRunOftenFailingRuleFirst_AfterWindow() {
+        RuleOrder order = field.getRuleOrder();
+        for (int i = 0; i < RuleOrder.WINDOW; i++) {
+            order.sample("Bxx");
+        }
+        assertEquals(List.of("pattern", "minLength"), types(order.getRules()));
+
+        // The next window sees only short values, so the cheap length check moves back to the front
+        for (int i = 0; i < RuleOrder.WINDOW; i++) {
+            order.sample("A");
+        }
+        assertEquals(List.of("minLength", "pattern"), types(order.getRules()));
+    }
+
+    @Test
+    void shouldNotTrackOrder_WhenFieldHasSingleRule() {
+        ValidationPlan plan = new PlanCompiler(new ValidatorRegistry()).compile(List.of(Map.of(
+            "field", "code", "rules", List.of(Map.of("type", "required")))));
+        assertNull(plan.getFields().get(0).getRuleOrder());
+    }
+
+    private static List<String> types(List<CompiledRule> rules) {
+        return rules.stream().map(CompiledRule::getType).collect(Collectors.toList());
+    }
+}
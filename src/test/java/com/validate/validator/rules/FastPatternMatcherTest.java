@@ -0,0 +1,108 @@
+package com.validate.validator.rules;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastPatternMatcherTest {
+    private static final String[] SUPPORTED = {
+        "^ORD-[0-9]{6}$",
+        "^\\d{5}(-\\d{4})?$",
+        "^[A-Za-z0-9+_.-]+@(.+)$",
+        "^[A-Z]{3}-\\d{3}$",
+        "[a-c]{1,3}x",
+        "\\w+\\s\\d*",
+        "[^-]+-\\S{2,}",
+        "a\\.b?c",
+        "(?:ab)c+z",
+        "\\$\\d+"
+    };
+
+    private static final String[] UNSUPPORTED = {
+        "a|b",
+        "a*a",
+        "\\d+\\d",
+        "(a|b)c",
+        "(\\d+)?x",
+        "(ab)?a",
+        "a+?b",
+        "\\p{Alpha}+",
+        "(a)\\1",
+        "(?:ab)+z",
+        "[a-z&&[^x]]"
+    };
+
+    @Test
+    void shouldCompileSupportedPatterns() {
+        for (String regex : SUPPORTED) {
+            assertNotNull(FastPatternMatcher.compile(regex), regex);
+        }
+    }
+
+    @Test
+    void shouldRejectUnsupportedPatterns() {
+        for (String regex : UNSUPPORTED) {
+            assertNull(FastPatternMatcher.compile(regex), regex);
+        }
+    }
+
+    @Test
+    void shouldAgreeWithRegex_ForKnownInputs() {
+        assertMatches("^ORD-[0-9]{6}$", "ORD-123456", true);
+        assertMatches("^ORD-[0-9]{6}$", "ORD-12345", false);
+        assertMatches("^ORD-[0-9]{6}$", "ORD-1234567", false);
+        assertMatches("^\\d{5}(-\\d{4})?$", "12345", true);
+        assertMatches("^\\d{5}(-\\d{4})?$", "12345-6789", true);
+        assertMatches("^\\d{5}(-\\d{4})?$", "12345-678", false);
+        assertMatches("^[A-Za-z0-9+_.-]+@(.+)$", "john@example.com", true);
+        assertMatches("^[A-Za-z0-9+_.-]+@(.+)$", "invalid-email", false);
+        assertMatches("^[A-Za-z0-9+_.-]+@(.+)$", "a@b\n", false);
+        assertMatches("^[A-Za-z0-9+_.-]+@(.+)$", "a@é ", false);
+    }
+
+    @Test
+    void shouldDeferToRegex_WhenSurrogatesMeetNonAsciiClass() {
+        FastPatternMatcher matcher = FastPatternMatcher.compile("^.{2}$");
+        assertEquals(FastPatternMatcher.UNDECIDED, matcher.match("😀"));
+    }
+
+    @Test
+    void shouldAgreeWithRegex_ForRandomInputs() {
+        Random random = new Random(42);
+        String alphabet = "ORD-0123456789abcxz@._+ \t$é\n";
+        for (String regex : SUPPORTED) {
+            FastPatternMatcher matcher = FastPatternMatcher.compile(regex);
+            Pattern pattern = Pattern.compile(regex);
+            for (String input : sampleInputs(random, alphabet)) {
+                boolean expected = pattern.matcher(input).matches();
+                assertEquals(expected ? FastPatternMatcher.MATCH : FastPatternMatcher.NO_MATCH,
+                    matcher.match(input), regex + " against \"" + input + "\"");
+            }
+        }
+    }
+
+    private static List<String> sampleInputs(Random random, String alphabet) {
+        List<String> inputs = new ArrayList<>();
+        inputs.add("");
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            inputs.add(input.toString());
+        }
+        return inputs;
+    }
+
+    private static void assertMatches(String regex, String input, boolean expected) {
+        assertEquals(expected, input.matches(regex), "regex baseline for " + input);
+        int result = FastPatternMatcher.compile(regex).match(input);
+        assertEquals(expected ? FastPatternMatcher.MATCH : FastPatternMatcher.NO_MATCH, result, input);
+    }
+}
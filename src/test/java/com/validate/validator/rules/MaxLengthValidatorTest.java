@@ -4,6 +4,7 @@ import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +37,49 @@ class MaxLengthValidatorTest {
         assertEquals("testField must not exceed 3 characters", exception.getMessage());
     }
 
+    @Test
+    void shouldReturnViolationCode_InsteadOfThrowing() {
+        rule.put("value", 3);
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.check("abc"));
+        int code = check.check("test");
+        assertNotEquals(RuleCheck.VALID, code);
+        assertEquals("testField must not exceed 3 characters", check.message("testField", "test", code));
+    }
+
+    @Test
+    void shouldThrowStacklessException() {
+        rule.put("value", 3);
+        RuleViolationException exception = assertThrows(
+            RuleViolationException.class,
+            () -> validator.validate("testField", "test", rule)
+        );
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("testField", exception.getField());
+    }
+
+    @Test
+    void shouldCountItems_WhenValueIsCollectionOrArray() {
+        rule.put("value", 2);
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.check(List.of("first item", "second item")));
+        assertNotEquals(RuleCheck.VALID, check.check(new String[] {"a", "b", "c"}));
+        assertEquals("tags must not have more than 2 items", check.message("tags", List.of(1, 2, 3), 1));
+    }
+
+    @Test
+    void shouldCountCodePoints_WhenEnabled() {
+        rule.put("value", 1);
+        String emoji = "\uD83D\uDE00";
+
+        assertNotEquals(RuleCheck.VALID, validator.compile(rule).check(emoji));
+        rule.put("codePoints", true);
+        assertEquals(RuleCheck.VALID, validator.compile(rule).check(emoji));
+        assertNotEquals(RuleCheck.VALID, validator.compile(rule).check(emoji + emoji));
+    }
+
     @Test
     void shouldReturnCorrectType() {
         assertEquals("maxLength", validator.getType());
@@ -0,0 +1,68 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaxValidatorTest {
+    private MaxValidator validator;
+    private Map<String, Object> rule;
+
+    @BeforeEach
+    void setUp() {
+        validator = new MaxValidator();
+        rule = new HashMap<>();
+    }
+
+    @Test
+    void shouldPassValidation_WhenValueAtBound() {
+        rule.put("value", new BigDecimal("99.99"));
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.check(new BigDecimal("99.990")));
+        assertEquals(RuleCheck.VALID, check.checkLong(99));
+        assertNotEquals(RuleCheck.VALID, check.checkInt(100));
+        assertNotEquals(RuleCheck.VALID, check.checkDouble(99.991));
+    }
+
+    @Test
+    void shouldAcceptZero_WhenBoundIsNegativeZero() {
+        rule.put("value", -0.0);
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.checkDouble(0.0));
+        assertEquals(RuleCheck.VALID, check.checkDouble(-0.0));
+        assertNotEquals(RuleCheck.VALID, check.checkDouble(Double.MIN_VALUE));
+    }
+
+    @Test
+    void shouldHandleNegativeBounds() {
+        rule.put("value", -1.5);
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.checkLong(-2));
+        assertNotEquals(RuleCheck.VALID, check.checkLong(-1));
+        assertEquals(RuleCheck.VALID, check.checkLong(Long.MIN_VALUE));
+    }
+
+    @Test
+    void shouldThrowException_WhenValueTooLarge() {
+        rule.put("value", 10);
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validate("quantity", 11, rule)
+        );
+        assertEquals("quantity must be at most 10", exception.getMessage());
+    }
+
+    @Test
+    void shouldReturnCorrectType() {
+        assertEquals("max", validator.getType());
+    }
+}
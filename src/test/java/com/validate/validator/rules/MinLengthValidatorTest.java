@@ -4,6 +4,7 @@ import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +37,29 @@ class MinLengthValidatorTest {
         assertEquals("testField must be at least 5 characters", exception.getMessage());
     }
 
+    @Test
+    void shouldCountItems_WhenValueIsCollectionOrArray() {
+        rule.put("value", 2);
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.check(List.of("a", "b")));
+        assertEquals(RuleCheck.VALID, check.check(new int[] {1, 2, 3}));
+        int code = check.check(Map.of("a", 1));
+        assertNotEquals(RuleCheck.VALID, code);
+        assertEquals("tags must have at least 2 items", check.message("tags", Map.of("a", 1), code));
+    }
+
+    @Test
+    void shouldCountCodePoints_WhenEnabled() {
+        rule.put("value", 2);
+        String emoji = "\uD83D\uDE00";
+
+        assertEquals(RuleCheck.VALID, validator.compile(rule).check(emoji));
+        rule.put("codePoints", true);
+        assertNotEquals(RuleCheck.VALID, validator.compile(rule).check(emoji));
+        assertEquals(RuleCheck.VALID, validator.compile(rule).check(new StringBuilder(emoji).append('!')));
+    }
+
     @Test
     void shouldReturnCorrectType() {
         assertEquals("minLength", validator.getType());
@@ -0,0 +1,83 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinValidatorTest {
+    private MinValidator validator;
+    private Map<String, Object> rule;
+
+    @BeforeEach
+    void setUp() {
+        validator = new MinValidator();
+        rule = new HashMap<>();
+    }
+
+    @Test
+    void shouldCompareAtFullPrecision_WhenValueIsNotAnInt() {
+        rule.put("value", 1);
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.check(1L));
+        assertNotEquals(RuleCheck.VALID, check.check(0.9));
+        assertNotEquals(RuleCheck.VALID, check.check(new BigDecimal("0.999")));
+        // intValue() would have wrapped this to a negative number
+        assertEquals(RuleCheck.VALID, check.check(Long.MAX_VALUE));
+        assertNotEquals(RuleCheck.VALID, check.checkDouble(Double.NaN));
+    }
+
+    @Test
+    void shouldTreatNegativeZeroAsZero_WhenBoundIsZero() {
+        rule.put("value", 0);
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.checkDouble(-0.0));
+        assertEquals(RuleCheck.VALID, check.check(-0.0));
+        assertEquals(RuleCheck.VALID, check.check(-0.0f));
+        assertNotEquals(RuleCheck.VALID, check.checkDouble(-Double.MIN_VALUE));
+    }
+
+    @Test
+    void shouldCompareWithDecimalBound_WhenValueIsPrimitive() {
+        rule.put("value", "0.01");
+        RuleCheck check = validator.compile(rule);
+
+        assertNotEquals(RuleCheck.VALID, check.checkInt(0));
+        assertEquals(RuleCheck.VALID, check.checkLong(1));
+        assertEquals(RuleCheck.VALID, check.checkDouble(0.01));
+        assertNotEquals(RuleCheck.VALID, check.check(new BigDecimal("0.009")));
+    }
+
+    @Test
+    void shouldThrowException_WhenValueTooSmall() {
+        rule.put("value", 0.5);
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validate("price", new BigDecimal("0.49"), rule)
+        );
+        assertEquals("price must be at least 0.5", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenValueIsNotANumber() {
+        rule.put("value", 1);
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validate("quantity", "ten", rule)
+        );
+        assertEquals("quantity must be a number", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenBoundIsNotNumeric() {
+        rule.put("value", "one");
+        assertThrows(ValidationException.class, () -> validator.compile(rule));
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,6 +49,28 @@ class PatternValidatorTest {
         assertEquals("testField custom message", exception.getMessage());
     }
 
+    @Test
+    void shouldCompilePatternOnce_WhenRuleCompiled() {
+        rule.put("value", "^[A-Z]{3}-\\d{3}$");
+        RuleCheck check = validator.compile(rule);
+
+        assertDoesNotThrow(() -> check.validate("testField", "ABC-123"));
+        assertThrows(ValidationException.class, () -> check.validate("testField", "invalid"));
+        assertEquals(1, validator.getPatternCache().size());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPattern_WhenCacheFull() {
+        PatternCache cache = new PatternCache(2);
+        Pattern first = cache.get("a+");
+        cache.get("b+");
+        cache.get("a+");
+        cache.get("c+");
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get("a+"));
+    }
+
     @Test
     void shouldReturnCorrectType() {
         assertEquals("pattern", validator.getType());
@@ -0,0 +1,39 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositiveValidatorTest {
+    private PositiveValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = new PositiveValidator();
+    }
+
+    @Test
+    void shouldRejectZeroAndNegativeValues() {
+        RuleCheck check = validator.compile(Map.of());
+
+        assertEquals(RuleCheck.VALID, check.checkInt(1));
+        assertEquals(RuleCheck.VALID, check.check(new BigDecimal("0.01")));
+        assertNotEquals(RuleCheck.VALID, check.checkLong(0));
+        assertNotEquals(RuleCheck.VALID, check.checkDouble(-0.0));
+        assertNotEquals(RuleCheck.VALID, check.checkDouble(Double.NaN));
+    }
+
+    @Test
+    void shouldThrowException_WhenValueNotPositive() {
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validate("amount", BigDecimal.ZERO, Map.of())
+        );
+        assertEquals("amount must be positive", exception.getMessage());
+    }
+}
@@ -0,0 +1,68 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecisionValidatorTest {
+    private PrecisionValidator validator;
+    private Map<String, Object> rule;
+
+    @BeforeEach
+    void setUp() {
+        validator = new PrecisionValidator();
+        rule = new HashMap<>();
+        rule.put("precision", 5);
+        rule.put("scale", 2);
+    }
+
+    @Test
+    void shouldLimitDecimalPlaces() {
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.check(new BigDecimal("123.45")));
+        assertEquals(RuleCheck.VALID, check.check(new BigDecimal("1.500")));
+        assertEquals(RuleCheck.VALID, check.checkDouble(0.1));
+        assertNotEquals(RuleCheck.VALID, check.check(new BigDecimal("1.005")));
+    }
+
+    @Test
+    void shouldLimitDigitsBeforeDecimalPoint() {
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.checkLong(999));
+        assertEquals(RuleCheck.VALID, check.checkInt(-999));
+        assertNotEquals(RuleCheck.VALID, check.checkLong(1000));
+        assertNotEquals(RuleCheck.VALID, check.checkLong(Long.MIN_VALUE));
+    }
+
+    @Test
+    void shouldThrowException_WhenTooManyDecimalPlaces() {
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validate("price", new BigDecimal("9.999"), rule)
+        );
+        assertEquals("price must have at most 2 decimal places", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenTooManyDigits() {
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validate("price", 1234.5, rule)
+        );
+        assertEquals("price must have at most 3 digits before the decimal point", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenScaleExceedsPrecision() {
+        rule.put("scale", 6);
+        assertThrows(ValidationException.class, () -> validator.compile(rule));
+    }
+}
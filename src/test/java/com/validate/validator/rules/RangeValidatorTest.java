@@ -0,0 +1,59 @@
+package com.validate.validator.rules;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeValidatorTest {
+    private RangeValidator validator;
+    private Map<String, Object> rule;
+
+    @BeforeEach
+    void setUp() {
+        validator = new RangeValidator();
+        rule = new HashMap<>();
+        rule.put("min", 1);
+        rule.put("max", 100);
+    }
+
+    @Test
+    void shouldIncludeBothBounds() {
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.checkInt(1));
+        assertEquals(RuleCheck.VALID, check.checkLong(100));
+        assertNotEquals(RuleCheck.VALID, check.checkInt(0));
+        assertNotEquals(RuleCheck.VALID, check.checkDouble(100.5));
+    }
+
+    @Test
+    void shouldIncludeNegativeZero_WhenBoundIsZero() {
+        rule.put("min", 0);
+        rule.put("max", 0);
+        RuleCheck check = validator.compile(rule);
+
+        assertEquals(RuleCheck.VALID, check.checkDouble(-0.0));
+        assertEquals(RuleCheck.VALID, check.check(-0.0));
+        assertNotEquals(RuleCheck.VALID, check.checkDouble(Double.NaN));
+    }
+
+    @Test
+    void shouldThrowException_WhenValueOutOfRange() {
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validate("quantity", 101L, rule)
+        );
+        assertEquals("quantity must be between 1 and 100", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenBoundsAreInverted() {
+        rule.put("min", 200);
+        assertThrows(ValidationException.class, () -> validator.compile(rule));
+    }
+}
@@ -0,0 +1,152 @@
+package com.validate.validator.stream;
+
+import com.validate.validator.ValidatorRegistry;
+import com.validate.validator.config.ValidationConfig;
+import com.validate.validator.plan.PlanCompiler;
+import com.validate.validator.plan.ValidationPlan;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unchecked")
+class StreamingValidatorTest {
+    private StreamingValidator validator;
+    private PlanCompiler compiler;
+    private ValidationPlan orderPlan;
+
+    @BeforeEach
+    void setUp() {
+        validator = new StreamingValidator();
+        compiler = new PlanCompiler(new ValidatorRegistry());
+        Map<String, Object> endpoint = new ValidationConfig().getRequestValidation("validation-rules", "createOrder");
+        orderPlan = compiler.compile((List<Map<String, Object>>) endpoint.get("validations"));
+    }
+
+    @Test
+    void shouldPassValidation_WhenJsonIsValid() {
+        String json = "{\"orderId\": \"ORD-123456\", \"notes\": {\"a\": [1, 2, {\"b\": null}]},"
+            + " \"customer\": {\"name\": \"Jo\\u00e3o\", \"email\": \"joao@example.com\"}}";
+
+        assertDoesNotThrow(() -> validator.validateJson(new StringReader(json), orderPlan));
+    }
+
+    @Test
+    void shouldThrowException_WhenJsonFieldFailsRule() {
+        String json = "{\"orderId\": \"ORD-1\", \"customer\": {\"name\": \"Jo\", \"email\": \"jo@example.com\"}}";
+
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validateJson(new StringReader(json), orderPlan)
+        );
+        assertEquals("orderId must match pattern: ^ORD-[0-9]{6}$", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenRequiredFieldMissing() {
+        String json = "{\"orderId\": \"ORD-123456\", \"customer\": {\"name\": \"Jo\"}}";
+
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validateJson(new StringReader(json), orderPlan)
+        );
+        assertEquals("email is required", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenRequiredNestedObjectMissing() {
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validateJson(new StringReader("{\"orderId\": \"ORD-123456\"}"), orderPlan)
+        );
+        assertEquals("Required nested object cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenScalarExpectedButContainerGiven() {
+        String json = "{\"orderId\": [\"ORD-123456\"]}";
+
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validateJson(new StringReader(json), orderPlan)
+        );
+        assertEquals("orderId must be a scalar value", exception.getMessage());
+    }
+
+    @Test
+    void shouldValidateYamlPayload() {
+        String valid = "orderId: ORD-123456\ncustomer:\n  name: Jo\n  email: jo@example.com\n";
+        String invalid = "orderId: ORD-123456\ncustomer:\n  name: J\n  email: jo@example.com\n";
+
+        assertDoesNotThrow(() -> validator.validateYaml(new StringReader(valid), orderPlan));
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validateYaml(new StringReader(invalid), orderPlan)
+        );
+        assertEquals("name must be at least 2 characters", exception.getMessage());
+    }
+
+    @Test
+    void shouldValidateListItems() {
+        Map<String, Object> quantity = new HashMap<>();
+        quantity.put("field", "quantity");
+        quantity.put("rules", Collections.singletonList(Map.of("type", "min", "value", 1)));
+        Map<String, Object> items = new HashMap<>();
+        items.put("field", "items");
+        items.put("type", "list");
+        items.put("rules", Collections.singletonList(Map.of("type", "required")));
+        items.put("itemValidations", Collections.singletonList(quantity));
+        ValidationPlan plan = compiler.compile(Collections.singletonList(items));
+
+        assertDoesNotThrow(() -> validator.validateJson(new StringReader("{\"items\": [{\"quantity\": 2}]}"), plan));
+        assertEquals("quantity must be at least 1", assertThrows(
+            ValidationException.class,
+            () -> validator.validateJson(new StringReader("{\"items\": [{\"quantity\": 2}, {\"quantity\": 0}]}"), plan)
+        ).getMessage());
+        assertEquals("Required list cannot be empty", assertThrows(
+            ValidationException.class,
+            () -> validator.validateJson(new StringReader("{\"items\": []}"), plan)
+        ).getMessage());
+    }
+
+    @Test
+    void shouldThrowException_WhenJsonMalformed() {
+        ValidationException exception = assertThrows(
+            ValidationException.class,
+            () -> validator.validateJson(new StringReader("{\"orderId\": \"ORD-123456\""), orderPlan)
+        );
+        assertTrue(exception.getMessage().startsWith("Malformed payload"));
+    }
+
+    @Test
+    void shouldThrowException_WhenJsonNumberInvalid() {
+        for (String number : List.of("01", "-01", "1.", "-", "1e", "1e+", ".5", "1.e3")) {
+            String json = "{\"notes\": " + number + ", \"orderId\": \"ORD-123456\"}";
+            ValidationException exception = assertThrows(ValidationException.class,
+                () -> validator.validateJson(new StringReader(json), orderPlan), number);
+            assertTrue(exception.getMessage().startsWith("Malformed payload"), number);
+        }
+    }
+
+    @Test
+    void shouldReadJsonNumbers() throws Exception {
+        String json = "[0, -0, 10, -0.5, 1.5e+3, 2E-2, 12345678901234567890]";
+        List<Object> values = new ArrayList<>();
+        try (TokenSource tokens = new JsonTokenSource(new StringReader(json))) {
+            for (TokenSource.Token token = tokens.next(); token != TokenSource.Token.END; token = tokens.next()) {
+                if (token == TokenSource.Token.VALUE) {
+                    values.add(tokens.getValue());
+                }
+            }
+        }
+
+        assertEquals(List.of(0L, 0L, 10L, new BigDecimal("-0.5"), new BigDecimal("1.5e+3"),
+            new BigDecimal("2E-2"), new BigInteger("12345678901234567890")), values);
+    }
+}